@@ -11,6 +11,9 @@ import {
   getLeaderboard,
   getProblems,
   getSubmissionStatus,
+  leaderboardEventsUrl,
+  mergeLeaderboardEntry,
+  submissionEventsUrl,
   submitSolution
 } from "@lib/api";
 import { ProblemView } from "@components/ProblemView";
@@ -18,6 +21,7 @@ import { CodeEditor } from "@components/CodeEditor";
 import { Leaderboard } from "@components/Leaderboard";
 import { SubmissionStatusBadge } from "@components/SubmissionStatusBadge";
 import { usePolling } from "@hooks/usePolling";
+import { useEventStream } from "@hooks/useEventStream";
 
 const DEFAULT_LANGUAGE = "python";
 const LIVE_POLLING_INTERVAL = 20000;
@@ -152,9 +156,41 @@ export default function ContestPage() {
     setLeaderboardError(null);
   }, [contestId, username]);
 
+  const leaderboardHandlers = useMemo(
+    () => ({
+      leaderboard: (data: unknown) => {
+        setLeaderboard((current) => mergeLeaderboardEntry(current, data as LeaderboardEntry));
+      }
+    }),
+    []
+  );
+
+  const leaderboardStream = useEventStream(contestId ? leaderboardEventsUrl(contestId) : null, leaderboardHandlers, {
+    onOpen: fetchLeaderboard
+  });
+
   usePolling(fetchLeaderboard, {
     interval: LIVE_POLLING_INTERVAL,
-    enabled: true
+    enabled: leaderboardStream !== "open"
+  });
+
+  const applySubmissionStatus = useCallback((status: SubmissionStatus) => {
+    setSubmissionStatus(status);
+    if (!ACTIVE_STATUSES.has(status.status)) {
+      setIsPollingSubmission(false);
+      setSubmissionId(null);
+    }
+  }, []);
+
+  const submissionHandlers = useMemo(
+    () => ({
+      status: (data: unknown) => applySubmissionStatus(data as SubmissionStatus)
+    }),
+    [applySubmissionStatus]
+  );
+
+  const submissionStream = useEventStream(submissionId ? submissionEventsUrl(submissionId) : null, submissionHandlers, {
+    enabled: isPollingSubmission
   });
 
   const pollSubmissionStatus = useCallback(async () => {
@@ -163,22 +199,17 @@ export default function ContestPage() {
     }
 
     try {
-      const status = await getSubmissionStatus(submissionId);
-      setSubmissionStatus(status);
-      if (!ACTIVE_STATUSES.has(status.status)) {
-        setIsPollingSubmission(false);
-        setSubmissionId(null);
-      }
+      applySubmissionStatus(await getSubmissionStatus(submissionId));
     } catch (error) {
       console.error(error);
       setSubmissionError(error instanceof Error ? error.message : "Failed to check submission status");
       setIsPollingSubmission(false);
     }
-  }, [submissionId]);
+  }, [submissionId, applySubmissionStatus]);
 
   usePolling(pollSubmissionStatus, {
     interval: SUBMISSION_POLLING_INTERVAL,
-    enabled: isPollingSubmission && Boolean(submissionId)
+    enabled: isPollingSubmission && Boolean(submissionId) && submissionStream === "error"
   });
 
   const handleSubmit = async () => {
@@ -284,6 +315,8 @@ export default function ContestPage() {
                 <option value="python">Python</option>
                 <option value="cpp">C++</option>
                 <option value="java">Java</option>
+                <option value="go">Go</option>
+                <option value="rust">Rust</option>
                 <option value="javascript">JavaScript</option>
               </select>
             </div>
@@ -313,6 +346,12 @@ export default function ContestPage() {
               {typeof submissionStatus.time === "number" ? (
                 <p className="text-slate-400">Time: {submissionStatus.time.toFixed(2)}s</p>
               ) : null}
+              {typeof submissionStatus.cpuTime === "number" ? (
+                <p className="text-slate-400">CPU: {submissionStatus.cpuTime.toFixed(2)}s</p>
+              ) : null}
+              {typeof submissionStatus.memoryKb === "number" ? (
+                <p className="text-slate-400">Memory: {(submissionStatus.memoryKb / 1024).toFixed(1)} MB</p>
+              ) : null}
             </div>
           ) : null}
         </div>
@@ -0,0 +1,250 @@
+package ai.shodhai.judge.benchmark;
+
+import ai.shodhai.judge.domain.Contest;
+import ai.shodhai.judge.domain.ScoringMode;
+import ai.shodhai.judge.domain.SubmissionStatus;
+import ai.shodhai.judge.dto.LeaderboardEntryResponse;
+import ai.shodhai.judge.repository.ContestRepository;
+import ai.shodhai.judge.repository.PenalizedAttemptRow;
+import ai.shodhai.judge.repository.ProblemResultRow;
+import ai.shodhai.judge.service.LeaderboardService;
+import ai.shodhai.judge.service.SubmissionJudgedEvent;
+import ai.shodhai.judge.service.SubmissionService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Proxy;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class LeaderboardBenchmark {
+
+    private static final String CONTEST_ID = "benchmark-contest";
+    private static final int PROBLEMS = 10;
+    private static final int SUBMISSIONS_PER_USER = 10;
+    private static final int PAGE_SIZE = 50;
+    private static final Instant CONTEST_START = Instant.parse("2024-01-01T00:00:00Z");
+
+    @Param({"1000", "100000", "1000000"})
+    private int submissions;
+
+    private LeaderboardService leaderboardService;
+    private SplittableRandom random;
+    private int users;
+    private long sequence;
+
+    @Setup(Level.Trial)
+    public void load() {
+        random = new SplittableRandom(42);
+        users = Math.max(1, submissions / SUBMISSIONS_PER_USER);
+        Map<String, Result> results = new HashMap<>();
+        List<PenalizedAttemptRow> attempts = new ArrayList<>();
+        for (int i = 0; i < submissions; i++) {
+            SubmissionJudgedEvent event = nextVerdict();
+            Result result = results.computeIfAbsent(event.username() + "/" + event.problemId(),
+                    key -> new Result(event.username(), event.problemId()));
+            if (result.add(event)) {
+                attempts.add(new Attempt(event.submissionId(), event.username(), event.problemId(), event.submittedAt()));
+            }
+        }
+        List<ProblemResultRow> rows = new ArrayList<>(results.values());
+        SubmissionService submissionService = new SubmissionService(null, null, null, null, null) {
+            @Override
+            public List<ProblemResultRow> summarizeProblemResults(String contestId, Collection<SubmissionStatus> penalized) {
+                return rows;
+            }
+
+            @Override
+            public List<PenalizedAttemptRow> findPenalizedAttempts(String contestId, Collection<SubmissionStatus> penalized) {
+                return attempts;
+            }
+        };
+        leaderboardService = new LeaderboardService(submissionService, contestRepository(), event -> {
+        }, ScoringMode.ICPC, 20);
+        leaderboardService.rebuild();
+    }
+
+    @Benchmark
+    public List<LeaderboardEntryResponse> firstPage() {
+        return leaderboardService.getLeaderboard(CONTEST_ID, 0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<LeaderboardEntryResponse> lastPage() {
+        return leaderboardService.getLeaderboard(CONTEST_ID, (users - 1) / PAGE_SIZE, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public void recordVerdict() {
+        leaderboardService.onSubmissionJudged(nextVerdict());
+    }
+
+    @Benchmark
+    public List<LeaderboardEntryResponse> firstPageAfterVerdict() {
+        leaderboardService.onSubmissionJudged(nextVerdict());
+        return leaderboardService.getLeaderboard(CONTEST_ID, 0, PAGE_SIZE);
+    }
+
+    private SubmissionJudgedEvent nextVerdict() {
+        long id = sequence++;
+        boolean accepted = random.nextInt(10) < 3;
+        return new SubmissionJudgedEvent(
+                new UUID(0L, id),
+                CONTEST_ID,
+                "problem-" + random.nextInt(PROBLEMS),
+                "user-" + random.nextInt(users),
+                accepted ? SubmissionStatus.ACCEPTED : SubmissionStatus.WRONG_ANSWER,
+                accepted ? "Accepted" : "Wrong Answer",
+                accepted ? 1.0 : 0.0,
+                random.nextDouble(),
+                null,
+                null,
+                false,
+                CONTEST_START.plusMillis(id));
+    }
+
+    private static ContestRepository contestRepository() {
+        return (ContestRepository) Proxy.newProxyInstance(ContestRepository.class.getClassLoader(),
+                new Class<?>[]{ContestRepository.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("findAll")) {
+                        Contest contest = new Contest();
+                        contest.setId(CONTEST_ID);
+                        return List.of(contest);
+                    }
+                    if (method.getName().equals("findById")) {
+                        return Optional.empty();
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static final class Attempt implements PenalizedAttemptRow {
+        private final UUID submissionId;
+        private final String username;
+        private final String problemId;
+        private final Instant submittedAt;
+
+        private Attempt(UUID submissionId, String username, String problemId, Instant submittedAt) {
+            this.submissionId = submissionId;
+            this.username = username;
+            this.problemId = problemId;
+            this.submittedAt = submittedAt;
+        }
+
+        @Override
+        public UUID getSubmissionId() {
+            return submissionId;
+        }
+
+        @Override
+        public String getContestId() {
+            return CONTEST_ID;
+        }
+
+        @Override
+        public String getUsername() {
+            return username;
+        }
+
+        @Override
+        public String getProblemId() {
+            return problemId;
+        }
+
+        @Override
+        public Instant getSubmittedAt() {
+            return submittedAt;
+        }
+    }
+
+    private static final class Result implements ProblemResultRow {
+        private final String username;
+        private final String problemId;
+        private Instant firstAcceptedAt;
+        private long wrongAttempts;
+        private double bestScore;
+        private Double fastestTime;
+
+        private Result(String username, String problemId) {
+            this.username = username;
+            this.problemId = problemId;
+        }
+
+        private boolean add(SubmissionJudgedEvent event) {
+            bestScore = Math.max(bestScore, event.score());
+            if (event.status() == SubmissionStatus.ACCEPTED) {
+                if (firstAcceptedAt == null) {
+                    firstAcceptedAt = event.submittedAt();
+                }
+                if (fastestTime == null || event.executionTime() < fastestTime) {
+                    fastestTime = event.executionTime();
+                }
+                return false;
+            }
+            if (firstAcceptedAt == null) {
+                wrongAttempts++;
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public String getContestId() {
+            return CONTEST_ID;
+        }
+
+        @Override
+        public String getUsername() {
+            return username;
+        }
+
+        @Override
+        public String getProblemId() {
+            return problemId;
+        }
+
+        @Override
+        public Instant getFirstAcceptedAt() {
+            return firstAcceptedAt;
+        }
+
+        @Override
+        public long getWrongAttempts() {
+            return wrongAttempts;
+        }
+
+        @Override
+        public double getBestScore() {
+            return bestScore;
+        }
+
+        @Override
+        public Double getFastestTime() {
+            return fastestTime;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package ai.shodhai.judge.benchmark;
+
+import ai.shodhai.judge.checker.CheckContext;
+import ai.shodhai.judge.checker.CheckResult;
+import ai.shodhai.judge.checker.CheckSession;
+import ai.shodhai.judge.checker.ExactChecker;
+import ai.shodhai.judge.checker.FloatChecker;
+import ai.shodhai.judge.checker.OutputChecker;
+import ai.shodhai.judge.checker.TokenChecker;
+import ai.shodhai.judge.checker.TrimmedChecker;
+import ai.shodhai.judge.domain.CheckerMode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OutputCheckerBenchmark {
+
+    private static final int CHUNK_SIZE = 64 * 1024;
+    private static final double FLOAT_TOLERANCE = 1e-6;
+
+    @Param({"EXACT", "TRIMMED", "TOKENS", "FLOAT"})
+    private CheckerMode mode;
+
+    @Param({"1", "16", "64"})
+    private int outputMb;
+
+    private OutputChecker checker;
+    private Path directory;
+    private Path expected;
+    private byte[] actual;
+
+    @Setup(Level.Trial)
+    public void prepare() throws Exception {
+        checker = List.of(new ExactChecker(), new TrimmedChecker(), new TokenChecker(), new FloatChecker()).stream()
+                .filter(candidate -> candidate.mode() == mode)
+                .findFirst()
+                .orElseThrow();
+        directory = Files.createTempDirectory("checker-benchmark");
+        expected = directory.resolve("expected.txt");
+        actual = generateOutput((long) outputMb * 1024 * 1024);
+        Files.write(expected, actual);
+        CheckResult result = check();
+        if (!result.accepted()) {
+            throw new IllegalStateException("Identical output was rejected: " + result.message());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void cleanUp() throws IOException {
+        Files.deleteIfExists(expected);
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public CheckResult check() throws IOException, InterruptedException {
+        CheckContext context = new CheckContext(null, expected, null, FLOAT_TOLERANCE, directory);
+        try (CheckSession session = checker.open(context)) {
+            for (int offset = 0; offset < actual.length; offset += CHUNK_SIZE) {
+                if (!session.accept(actual, offset, Math.min(CHUNK_SIZE, actual.length - offset))) {
+                    break;
+                }
+            }
+            return session.finish();
+        }
+    }
+
+    private static byte[] generateOutput(long size) {
+        SplittableRandom random = new SplittableRandom(7);
+        ByteArrayOutputStream output = new ByteArrayOutputStream((int) size + 64);
+        StringBuilder line = new StringBuilder();
+        while (output.size() < size) {
+            line.setLength(0);
+            for (int i = 0; i < 8; i++) {
+                if (i > 0) {
+                    line.append(' ');
+                }
+                line.append(random.nextInt(1_000_000)).append('.').append(random.nextInt(1_000_000));
+            }
+            line.append('\n');
+            output.writeBytes(line.toString().getBytes(StandardCharsets.US_ASCII));
+        }
+        return output.toByteArray();
+    }
+}
@@ -0,0 +1,79 @@
+package ai.shodhai.judge.benchmark;
+
+import ai.shodhai.judge.sandbox.ProcessResult;
+import ai.shodhai.judge.sandbox.ProcessSupervisor;
+import ai.shodhai.judge.sandbox.ResourceLimits;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProcessLaunchBenchmark {
+
+    private static final List<String> COMMAND = List.of("true");
+    private static final ResourceLimits LIMITS = new ResourceLimits(Duration.ofSeconds(2), Duration.ofSeconds(5), 0, 0, 1024 * 1024);
+
+    private ProcessSupervisor supervisor;
+    private Path directory;
+    private Path output;
+
+    @Setup(Level.Trial)
+    public void start() throws IOException {
+        supervisor = new ProcessSupervisor(1, 5);
+        supervisor.start();
+        directory = Files.createTempDirectory("process-benchmark");
+        output = Files.createFile(directory.resolve("stdout.txt"));
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() throws IOException {
+        supervisor.shutdown();
+        Files.deleteIfExists(output);
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public int processBuilder() throws IOException, InterruptedException {
+        return builder().start().waitFor();
+    }
+
+    @Benchmark
+    public ProcessResult supervisedWallClock() throws IOException, InterruptedException, ExecutionException {
+        return supervisor.start(builder(), output, null, LIMITS.wallClockOnly()).get();
+    }
+
+    @Benchmark
+    public ProcessResult supervisedWithUsage() throws IOException, InterruptedException, ExecutionException {
+        return supervisor.start(builder(), output, null, LIMITS).get();
+    }
+
+    private ProcessBuilder builder() {
+        return new ProcessBuilder(COMMAND)
+                .directory(directory.toFile())
+                .redirectInput(ProcessBuilder.Redirect.PIPE)
+                .redirectOutput(ProcessBuilder.Redirect.to(output.toFile()))
+                .redirectError(ProcessBuilder.Redirect.DISCARD);
+    }
+}
@@ -0,0 +1,35 @@
+package ai.shodhai.judge.benchmark;
+
+import ai.shodhai.judge.domain.SubmissionStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StatusDisplayBenchmark {
+
+    private static final SubmissionStatus[] STATUSES = SubmissionStatus.values();
+
+    @Benchmark
+    @OperationsPerInvocation(7)
+    public void displayName(Blackhole blackhole) {
+        for (SubmissionStatus status : STATUSES) {
+            blackhole.consume(status.getDisplayName());
+        }
+    }
+}
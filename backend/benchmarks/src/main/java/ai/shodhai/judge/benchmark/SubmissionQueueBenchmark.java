@@ -0,0 +1,96 @@
+package ai.shodhai.judge.benchmark;
+
+import ai.shodhai.judge.JudgeServiceApplication;
+import ai.shodhai.judge.dto.SubmissionRequest;
+import ai.shodhai.judge.service.SubmissionQueue;
+import ai.shodhai.judge.service.SubmissionService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SubmissionQueueBenchmark {
+
+    private static final int SUBMISSIONS = 20_000;
+    private static final int USERS = 500;
+    private static final String REQUEUE_ALL = "UPDATE submissions SET status = 'QUEUED', verdict = 'Pending', "
+            + "lease_owner = NULL, lease_expires_at = NULL";
+
+    @Param({"4", "32"})
+    private int claimBatchSize;
+
+    @Param({"fair", "fifo"})
+    private String scheduler;
+
+    private ConfigurableApplicationContext context;
+    private SubmissionQueue queue;
+    private JdbcTemplate jdbcTemplate;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(JudgeServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .run("--spring.datasource.url=jdbc:h2:mem:queue-benchmark;DB_CLOSE_DELAY=-1;MODE=PostgreSQL",
+                        "--judge.role=API",
+                        "--judge.node-id=benchmark",
+                        "--judge.queue.claim-batch-size=" + claimBatchSize,
+                        "--judge.queue.scheduler=" + scheduler,
+                        "--judge.events.feed-interval-ms=3600000",
+                        "--logging.level.ai.shodhai.judge=WARN");
+        SubmissionService submissionService = context.getBean(SubmissionService.class);
+        for (int i = 0; i < SUBMISSIONS; i++) {
+            submissionService.createSubmission(new SubmissionRequest("winter-open", "warmup-sum", "user-" + (i % USERS),
+                    "python", "a, b = map(int, input().split())\nprint(a + b)\n", false));
+        }
+        queue = context.getBean(SubmissionQueue.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+    }
+
+    @Setup(Level.Iteration)
+    public void requeue() {
+        jdbcTemplate.update(REQUEUE_ALL);
+        queue.enqueue(null);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    public UUID claim() throws InterruptedException {
+        UUID submissionId = queue.poll(0, TimeUnit.NANOSECONDS);
+        if (submissionId == null) {
+            requeue();
+            submissionId = queue.poll(0, TimeUnit.NANOSECONDS);
+        }
+        if (submissionId == null) {
+            throw new IllegalStateException("No submission could be claimed after requeueing");
+        }
+        queue.complete(submissionId);
+        return submissionId;
+    }
+}
@@ -0,0 +1,302 @@
+package ai.shodhai.judge.load;
+
+import ai.shodhai.judge.JudgeServiceApplication;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class ContestSimulation {
+
+    private static final Logger log = LoggerFactory.getLogger(ContestSimulation.class);
+    private static final Set<String> PENDING_STATUSES = Set.of("Queued", "Running");
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final int LEADERBOARD_PAGE_SIZE = 50;
+
+    private final SimulationOptions options;
+    private final URI target;
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2);
+    private final NavigableMap<Integer, SubmissionKind> mix = new TreeMap<>();
+    private final int totalWeight;
+    private final EndpointStats submissions = new EndpointStats("submit");
+    private final EndpointStats statusPolls = new EndpointStats("status");
+    private final EndpointStats leaderboardPolls = new EndpointStats("leaderboard");
+    private final EndpointStats turnaround = new EndpointStats("turnaround");
+    private final Map<SubmissionKind, EndpointStats> turnaroundByKind = new EnumMap<>(SubmissionKind.class);
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile String leaderboardTag;
+    private volatile long measureFrom;
+
+    public ContestSimulation(SimulationOptions options, URI target) {
+        this.options = options;
+        this.target = target;
+        int weight = 0;
+        for (Map.Entry<SubmissionKind, Integer> entry : options.mix().entrySet()) {
+            mix.put(weight, entry.getKey());
+            weight += entry.getValue();
+            turnaroundByKind.put(entry.getKey(), new EndpointStats("turnaround " + entry.getKey().label()));
+        }
+        this.totalWeight = weight;
+    }
+
+    public static void main(String[] args) throws Exception {
+        SimulationOptions options = SimulationOptions.parse(args);
+        ConfigurableApplicationContext node = null;
+        String target = options.target();
+        if (target == null) {
+            node = startNode(options);
+            target = "http://localhost:" + node.getEnvironment().getProperty("local.server.port");
+        }
+        try {
+            ContestSimulation simulation = new ContestSimulation(options, URI.create(target));
+            simulation.run();
+            simulation.report(System.out);
+        } finally {
+            if (node != null) {
+                node.close();
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext startNode(SimulationOptions options) {
+        Map<String, String> arguments = new LinkedHashMap<>();
+        for (String argument : List.of("--server.port=0", "--spring.profiles.active=loadtest", "--logging.level.ai.shodhai.judge=WARN")) {
+            arguments.put(argument.substring(0, argument.indexOf('=')), argument);
+        }
+        for (String argument : options.nodeArguments()) {
+            int separator = argument.indexOf('=');
+            arguments.put(separator < 0 ? argument : argument.substring(0, separator), argument);
+        }
+        return new SpringApplicationBuilder(JudgeServiceApplication.class)
+                .logStartupInfo(false)
+                .run(arguments.values().toArray(String[]::new));
+    }
+
+    public void run() throws InterruptedException {
+        long start = System.nanoTime();
+        measureFrom = start + options.warmup().toNanos();
+        long stopAt = measureFrom + options.duration().toNanos();
+        List<ScheduledFuture<?>> generators = new ArrayList<>();
+        generators.add(scheduler.scheduleAtFixedRate(this::submit, 0, periodNanos(options.submitRate()), TimeUnit.NANOSECONDS));
+        if (options.leaderboardRate() > 0) {
+            generators.add(scheduler.scheduleAtFixedRate(this::readLeaderboard, 0, periodNanos(options.leaderboardRate()),
+                    TimeUnit.NANOSECONDS));
+        }
+        log.info("Simulating {} contestants against {}: {} submissions/s for {}s after {}s of warm-up",
+                options.contestants(), target, options.submitRate(), options.duration().toSeconds(), options.warmup().toSeconds());
+        TimeUnit.NANOSECONDS.sleep(stopAt - System.nanoTime());
+        generators.forEach(generator -> generator.cancel(false));
+        long drainUntil = System.nanoTime() + options.drain().toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() < drainUntil) {
+            TimeUnit.MILLISECONDS.sleep(100);
+        }
+        scheduler.shutdownNow();
+    }
+
+    public void report(PrintStream out) {
+        double seconds = options.duration().toMillis() / 1000.0;
+        out.printf("%nContest '%s' at %s: %d contestants, %.1f submissions/s, %.1f leaderboard reads/s, %s, %.0fs measured%n%n",
+                options.contestId(), target, options.contestants(), options.submitRate(), options.leaderboardRate(),
+                options.language(), seconds);
+        out.printf("%-20s %8s %7s %9s %9s %9s %9s %9s %9s%n",
+                "", "count", "errors", "per sec", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        submissions.printRow(out, seconds);
+        statusPolls.printRow(out, seconds);
+        leaderboardPolls.printRow(out, seconds);
+        turnaround.printRow(out, seconds);
+        turnaroundByKind.values().forEach(stats -> stats.printRow(out, seconds));
+        out.println();
+        out.println(submissions.describeOutcomes());
+        out.println(statusPolls.describeOutcomes());
+        out.println(leaderboardPolls.describeOutcomes());
+        for (Map.Entry<SubmissionKind, EndpointStats> entry : turnaroundByKind.entrySet()) {
+            out.println(entry.getValue().describeOutcomes() + " (expected " + entry.getKey().expectedVerdict() + ")");
+        }
+        out.printf("unfinished after %ds drain: %d%n", options.drain().toSeconds(), inFlight.get());
+    }
+
+    private void submit() {
+        try {
+            SubmissionKind kind = mix.floorEntry(ThreadLocalRandom.current().nextInt(totalWeight)).getValue();
+            long number = sequence.incrementAndGet();
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("contestId", options.contestId());
+            body.put("problemId", kind.problemId());
+            body.put("username", "contestant-" + ThreadLocalRandom.current().nextInt(options.contestants()));
+            body.put("language", options.language());
+            body.put("code", kind.source(options.language(), options.uniqueSources() ? number : 0));
+            HttpRequest request = HttpRequest.newBuilder(target.resolve("/api/submissions"))
+                    .timeout(REQUEST_TIMEOUT)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(mapper.writeValueAsString(body)))
+                    .build();
+            long sentAt = System.nanoTime();
+            inFlight.incrementAndGet();
+            client.sendAsync(request, HttpResponse.BodyHandlers.ofString()).whenComplete((response, error) -> {
+                boolean measured = sentAt >= measureFrom;
+                if (error != null) {
+                    if (measured) {
+                        submissions.fail(error.getClass().getSimpleName());
+                    }
+                    inFlight.decrementAndGet();
+                    return;
+                }
+                int code = response.statusCode();
+                if (measured) {
+                    submissions.record(System.nanoTime() - sentAt, Integer.toString(code), code == 202);
+                }
+                String submissionId = code == 202 ? readTree(response.body()).path("submissionId").asText(null) : null;
+                if (submissionId == null) {
+                    inFlight.decrementAndGet();
+                    return;
+                }
+                schedulePoll(new TrackedSubmission(submissionId, kind, sentAt));
+            });
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("Failed to send submission: {}", e.getMessage());
+        }
+    }
+
+    private void poll(TrackedSubmission submission) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(target.resolve("/api/submissions/" + submission.id))
+                .timeout(REQUEST_TIMEOUT)
+                .GET();
+        if (submission.etag != null) {
+            builder.header("If-None-Match", submission.etag);
+        }
+        long sentAt = System.nanoTime();
+        client.sendAsync(builder.build(), HttpResponse.BodyHandlers.ofString()).whenComplete((response, error) -> {
+            long now = System.nanoTime();
+            boolean measured = sentAt >= measureFrom;
+            if (error != null) {
+                if (measured) {
+                    statusPolls.fail(error.getClass().getSimpleName());
+                }
+                schedulePoll(submission);
+                return;
+            }
+            int code = response.statusCode();
+            if (measured) {
+                statusPolls.record(now - sentAt, Integer.toString(code), code == 200 || code == 304);
+            }
+            if (code == 200) {
+                submission.etag = response.headers().firstValue("ETag").orElse(null);
+                JsonNode status = readTree(response.body());
+                if (!PENDING_STATUSES.contains(status.path("status").asText())) {
+                    String verdict = status.path("verdict").asText("unknown");
+                    int detail = verdict.indexOf(':');
+                    complete(submission, detail < 0 ? verdict : verdict.substring(0, detail), now);
+                    return;
+                }
+            } else if (code != 304) {
+                inFlight.decrementAndGet();
+                return;
+            }
+            schedulePoll(submission);
+        });
+    }
+
+    private void complete(TrackedSubmission submission, String verdict, long now) {
+        if (submission.submittedAt >= measureFrom) {
+            long elapsed = now - submission.submittedAt;
+            boolean expected = submission.kind.expectedVerdict().equals(verdict);
+            turnaround.record(elapsed, verdict, expected);
+            turnaroundByKind.get(submission.kind).record(elapsed, verdict, expected);
+        }
+        inFlight.decrementAndGet();
+    }
+
+    private void schedulePoll(TrackedSubmission submission) {
+        try {
+            scheduler.schedule(() -> poll(submission), options.pollInterval().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private void readLeaderboard() {
+        try {
+            HttpRequest.Builder builder = HttpRequest.newBuilder(target.resolve("/api/contests/" + options.contestId()
+                            + "/leaderboard?page=0&size=" + LEADERBOARD_PAGE_SIZE))
+                    .timeout(REQUEST_TIMEOUT)
+                    .GET();
+            String tag = leaderboardTag;
+            if (tag != null) {
+                builder.header("If-None-Match", tag);
+            }
+            long sentAt = System.nanoTime();
+            client.sendAsync(builder.build(), HttpResponse.BodyHandlers.discarding()).whenComplete((response, error) -> {
+                boolean measured = sentAt >= measureFrom;
+                if (error != null) {
+                    if (measured) {
+                        leaderboardPolls.fail(error.getClass().getSimpleName());
+                    }
+                    return;
+                }
+                int code = response.statusCode();
+                if (code == 200) {
+                    leaderboardTag = response.headers().firstValue("ETag").orElse(null);
+                }
+                if (measured) {
+                    leaderboardPolls.record(System.nanoTime() - sentAt, Integer.toString(code), code == 200 || code == 304);
+                }
+            });
+        } catch (RuntimeException e) {
+            log.warn("Failed to read leaderboard: {}", e.getMessage());
+        }
+    }
+
+    private JsonNode readTree(String body) {
+        try {
+            return mapper.readTree(body);
+        } catch (JsonProcessingException e) {
+            return mapper.missingNode();
+        }
+    }
+
+    private static long periodNanos(double perSecond) {
+        return Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / perSecond));
+    }
+
+    private static final class TrackedSubmission {
+        private final String id;
+        private final SubmissionKind kind;
+        private final long submittedAt;
+        private volatile String etag;
+
+        private TrackedSubmission(String id, SubmissionKind kind, long submittedAt) {
+            this.id = id;
+            this.kind = kind;
+            this.submittedAt = submittedAt;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package ai.shodhai.judge.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.PrintStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+final class EndpointStats {
+
+    private final String name;
+    private final Histogram latencyMicros = new ConcurrentHistogram(3);
+    private final Map<String, LongAdder> outcomes = new ConcurrentSkipListMap<>();
+    private final LongAdder errors = new LongAdder();
+
+    EndpointStats(String name) {
+        this.name = name;
+    }
+
+    void record(long nanos, String outcome, boolean success) {
+        latencyMicros.recordValue(Math.max(1, TimeUnit.NANOSECONDS.toMicros(nanos)));
+        count(outcome, success);
+    }
+
+    void fail(String outcome) {
+        count(outcome, false);
+    }
+
+    void printRow(PrintStream out, double seconds) {
+        long count = outcomes.values().stream().mapToLong(LongAdder::sum).sum();
+        out.printf("%-20s %8d %7d %9.1f %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                name,
+                count,
+                errors.sum(),
+                seconds > 0 ? count / seconds : 0.0,
+                percentileMillis(50),
+                percentileMillis(90),
+                percentileMillis(99),
+                percentileMillis(99.9),
+                latencyMicros.getMaxValue() / 1000.0);
+    }
+
+    String describeOutcomes() {
+        return name + ": " + outcomes.entrySet().stream()
+                .map(entry -> entry.getKey() + "=" + entry.getValue().sum())
+                .collect(Collectors.joining(", "));
+    }
+
+    private double percentileMillis(double percentile) {
+        return latencyMicros.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    private void count(String outcome, boolean success) {
+        outcomes.computeIfAbsent(outcome, key -> new LongAdder()).increment();
+        if (!success) {
+            errors.increment();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package ai.shodhai.judge.load;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+public record SimulationOptions(String target,
+                                String contestId,
+                                String language,
+                                int contestants,
+                                double submitRate,
+                                double leaderboardRate,
+                                Duration pollInterval,
+                                Duration warmup,
+                                Duration duration,
+                                Duration drain,
+                                Map<SubmissionKind, Integer> mix,
+                                boolean uniqueSources,
+                                List<String> nodeArguments) {
+
+    private static final List<String> NODE_PREFIXES = List.of("--judge.", "--spring.", "--server.", "--logging.", "--management.");
+
+    public static SimulationOptions parse(String[] args) {
+        String target = null;
+        String contestId = "load-test";
+        String language = "python";
+        int contestants = 500;
+        double submitRate = 5.0;
+        double leaderboardRate = 2.0;
+        Duration pollInterval = Duration.ofMillis(500);
+        Duration warmup = Duration.ofSeconds(10);
+        Duration duration = Duration.ofSeconds(60);
+        Duration drain = Duration.ofSeconds(30);
+        Map<SubmissionKind, Integer> mix = parseMix("ac=70,wa=20,tle=5,large=5");
+        boolean uniqueSources = true;
+        List<String> nodeArguments = new ArrayList<>();
+
+        for (String arg : args) {
+            if (arg.isBlank()) {
+                continue;
+            }
+            if (NODE_PREFIXES.stream().anyMatch(arg::startsWith)) {
+                nodeArguments.add(arg);
+                continue;
+            }
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Expected --option=value but got '" + arg + "'");
+            }
+            String name = arg.substring(2, separator);
+            String value = arg.substring(separator + 1);
+            switch (name) {
+                case "target" -> target = value.isBlank() ? null : value.replaceAll("/+$", "");
+                case "contest" -> contestId = value;
+                case "language" -> language = value;
+                case "contestants" -> contestants = positive(name, Integer.parseInt(value));
+                case "submit-rate" -> submitRate = Double.parseDouble(value);
+                case "leaderboard-rate" -> leaderboardRate = Double.parseDouble(value);
+                case "poll-interval-ms" -> pollInterval = Duration.ofMillis(positive(name, Integer.parseInt(value)));
+                case "warmup-seconds" -> warmup = Duration.ofSeconds(Long.parseLong(value));
+                case "duration-seconds" -> duration = Duration.ofSeconds(positive(name, Integer.parseInt(value)));
+                case "drain-seconds" -> drain = Duration.ofSeconds(Long.parseLong(value));
+                case "mix" -> mix = parseMix(value);
+                case "unique-sources" -> uniqueSources = Boolean.parseBoolean(value);
+                default -> throw new IllegalArgumentException("Unknown option --" + name);
+            }
+        }
+        if (submitRate <= 0) {
+            throw new IllegalArgumentException("--submit-rate must be positive");
+        }
+        if (!SubmissionKind.supports(language)) {
+            throw new IllegalArgumentException("Unsupported simulation language " + language + ", expected python or javascript");
+        }
+        return new SimulationOptions(target, contestId, language, contestants, submitRate, leaderboardRate, pollInterval,
+                warmup, duration, drain, mix, uniqueSources, List.copyOf(nodeArguments));
+    }
+
+    private static Map<SubmissionKind, Integer> parseMix(String value) {
+        Map<SubmissionKind, Integer> mix = new EnumMap<>(SubmissionKind.class);
+        for (String part : value.split(",")) {
+            String[] entry = part.split("=");
+            if (entry.length != 2) {
+                throw new IllegalArgumentException("Expected kind=weight in --mix but got '" + part + "'");
+            }
+            int weight = Integer.parseInt(entry[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Mix weight for " + entry[0] + " must not be negative");
+            }
+            if (weight > 0) {
+                mix.put(SubmissionKind.of(entry[0]), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("--mix must give at least one kind a positive weight");
+        }
+        return mix;
+    }
+
+    private static int positive(String name, int value) {
+        if (value <= 0) {
+            throw new IllegalArgumentException("--" + name + " must be positive");
+        }
+        return value;
+    }
+}
@@ -0,0 +1,69 @@
+package ai.shodhai.judge.load;
+
+import java.util.Locale;
+
+public enum SubmissionKind {
+    AC("load-sum", "Accepted"),
+    WA("load-sum", "Wrong Answer"),
+    TLE("load-sum", "Time Limit Exceeded"),
+    LARGE("load-sequence", "Accepted");
+
+    private final String problemId;
+    private final String expectedVerdict;
+
+    SubmissionKind(String problemId, String expectedVerdict) {
+        this.problemId = problemId;
+        this.expectedVerdict = expectedVerdict;
+    }
+
+    public static boolean supports(String language) {
+        return language.equals("python") || language.equals("javascript");
+    }
+
+    public static SubmissionKind of(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown submission kind '" + value + "', expected one of ac, wa, tle, large");
+        }
+    }
+
+    public String problemId() {
+        return problemId;
+    }
+
+    public String expectedVerdict() {
+        return expectedVerdict;
+    }
+
+    public String label() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    public String source(String language, long sequence) {
+        return switch (language) {
+            case "python" -> "# load " + sequence + "\n" + python();
+            case "javascript" -> "// load " + sequence + "\n" + javascript();
+            default -> throw new IllegalArgumentException("Unsupported simulation language " + language + ", expected python or javascript");
+        };
+    }
+
+    private String python() {
+        return switch (this) {
+            case AC -> "a, b = map(int, input().split())\nprint(a + b)\n";
+            case WA -> "a, b = map(int, input().split())\nprint(a + b + 1)\n";
+            case TLE -> "while True:\n    pass\n";
+            case LARGE -> "import sys\nn = int(input())\nsys.stdout.write('\\n'.join(map(str, range(1, n + 1))))\n";
+        };
+    }
+
+    private String javascript() {
+        return switch (this) {
+            case AC -> "const [a, b] = require('fs').readFileSync(0, 'utf8').trim().split(/\\s+/).map(Number);\nconsole.log(a + b);\n";
+            case WA -> "const [a, b] = require('fs').readFileSync(0, 'utf8').trim().split(/\\s+/).map(Number);\nconsole.log(a + b + 1);\n";
+            case TLE -> "for (;;) {}\n";
+            case LARGE -> "const n = Number(require('fs').readFileSync(0, 'utf8').trim());\nconst lines = [];\n"
+                    + "for (let i = 1; i <= n; i++) lines.push(i);\nprocess.stdout.write(lines.join('\\n'));\n";
+        };
+    }
+}
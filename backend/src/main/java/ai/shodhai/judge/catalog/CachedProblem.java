@@ -0,0 +1,17 @@
+package ai.shodhai.judge.catalog;
+
+import ai.shodhai.judge.domain.CheckerMode;
+import ai.shodhai.judge.domain.ScoringMode;
+
+import java.nio.file.Path;
+import java.util.List;
+
+public record CachedProblem(String id, long version, String contestId, ScoringMode scoringMode, String title, String statement,
+                            String difficulty, CheckerMode checkerMode, Path checkerProgram, Double floatTolerance,
+                            Integer timeLimitMillis, Integer memoryLimitMb, Integer pidsLimit, Integer outputLimitKb,
+                            List<CachedTestCase> testCases) {
+
+    public List<CachedTestCase> sampleTestCases() {
+        return testCases.stream().filter(CachedTestCase::sample).toList();
+    }
+}
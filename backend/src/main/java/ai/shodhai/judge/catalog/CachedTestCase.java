@@ -0,0 +1,6 @@
+package ai.shodhai.judge.catalog;
+
+import java.nio.file.Path;
+
+public record CachedTestCase(Long id, Path input, long inputSize, Path expectedOutput, long outputSize, boolean sample) {
+}
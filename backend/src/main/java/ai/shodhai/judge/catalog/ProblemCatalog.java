@@ -0,0 +1,207 @@
+package ai.shodhai.judge.catalog;
+
+import ai.shodhai.judge.domain.CheckerMode;
+import ai.shodhai.judge.domain.Problem;
+import ai.shodhai.judge.domain.ScoringMode;
+import ai.shodhai.judge.domain.TestCase;
+import ai.shodhai.judge.repository.ProblemRepository;
+import ai.shodhai.judge.repository.ProblemVersion;
+import ai.shodhai.judge.storage.TestDataStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+@Component
+public class ProblemCatalog {
+
+    private static final Logger log = LoggerFactory.getLogger(ProblemCatalog.class);
+
+    private final ProblemRepository problemRepository;
+    private final TestDataStore testDataStore;
+    private final int maxProblems;
+    private final ScoringMode defaultScoringMode;
+    private final Map<String, CachedProblem> problems;
+    private final Map<String, List<String>> contestProblemIds = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public ProblemCatalog(ProblemRepository problemRepository,
+                          TestDataStore testDataStore,
+                          @Value("${judge.catalog.max-problems:256}") int maxProblems,
+                          @Value("${judge.leaderboard.scoring-mode:ICPC}") ScoringMode defaultScoringMode) {
+        this.problemRepository = problemRepository;
+        this.testDataStore = testDataStore;
+        this.maxProblems = Math.max(1, maxProblems);
+        this.defaultScoringMode = defaultScoringMode;
+        this.problems = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedProblem> eldest) {
+                if (size() > ProblemCatalog.this.maxProblems) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    @Transactional(readOnly = true)
+    public CachedProblem getProblem(String problemId) {
+        CachedProblem cached = lookup(problemId);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        long observed = generation.get();
+        Problem problem = problemRepository.findWithTestCases(problemId)
+                .orElseThrow(() -> new IllegalArgumentException("Problem not found"));
+        CachedProblem loaded = toCached(problem);
+        store(observed, loaded);
+        return loaded;
+    }
+
+    @Transactional(readOnly = true)
+    public List<CachedProblem> getContestProblems(String contestId) {
+        List<String> problemIds = contestProblemIds.get(contestId);
+        if (problemIds != null) {
+            List<CachedProblem> cached = problemIds.stream().map(this::lookup).toList();
+            if (!cached.contains(null)) {
+                hits.increment();
+                return cached;
+            }
+        }
+        misses.increment();
+        long observed = generation.get();
+        List<CachedProblem> loaded = problemRepository.findWithTestCasesByContestId(contestId).stream()
+                .map(this::toCached)
+                .toList();
+        loaded.forEach(problem -> store(observed, problem));
+        if (generation.get() == observed) {
+            contestProblemIds.put(contestId, loaded.stream().map(CachedProblem::id).toList());
+        }
+        return loaded;
+    }
+
+    public void invalidate(String problemId) {
+        generation.incrementAndGet();
+        invalidations.increment();
+        synchronized (problems) {
+            problems.remove(problemId);
+        }
+        contestProblemIds.clear();
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        invalidations.increment();
+        synchronized (problems) {
+            problems.clear();
+        }
+        contestProblemIds.clear();
+    }
+
+    @Scheduled(fixedDelayString = "${judge.catalog.version-check-interval-ms:30000}",
+            initialDelayString = "${judge.catalog.version-check-interval-ms:30000}")
+    public void evictStaleVersions() {
+        Map<String, Long> versions = new HashMap<>();
+        Map<String, List<String>> problemIdsByContest = new HashMap<>();
+        for (ProblemVersion version : problemRepository.findAllVersions()) {
+            versions.put(version.getId(), version.getVersion() == null ? 0L : version.getVersion());
+            if (version.getContestId() != null) {
+                problemIdsByContest.computeIfAbsent(version.getContestId(), key -> new ArrayList<>()).add(version.getId());
+            }
+        }
+        List<String> stale;
+        synchronized (problems) {
+            stale = problems.values().stream()
+                    .filter(problem -> !Long.valueOf(problem.version()).equals(versions.get(problem.id())))
+                    .map(CachedProblem::id)
+                    .toList();
+        }
+        if (!stale.isEmpty()) {
+            log.info("Evicting {} cached problems whose version changed", stale.size());
+            stale.forEach(this::invalidate);
+        }
+        contestProblemIds.entrySet().removeIf(entry ->
+                !entry.getValue().equals(problemIdsByContest.getOrDefault(entry.getKey(), List.of())));
+    }
+
+    public CatalogSnapshot snapshot() {
+        int size;
+        synchronized (problems) {
+            size = problems.size();
+        }
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long total = hitCount + missCount;
+        return new CatalogSnapshot(size, maxProblems, hitCount, missCount, total == 0 ? 0.0 : (double) hitCount / total,
+                evictions.sum(), invalidations.sum());
+    }
+
+    private CachedProblem lookup(String problemId) {
+        synchronized (problems) {
+            return problems.get(problemId);
+        }
+    }
+
+    private void store(long observedGeneration, CachedProblem problem) {
+        synchronized (problems) {
+            if (generation.get() == observedGeneration) {
+                problems.put(problem.id(), problem);
+            }
+        }
+    }
+
+    private CachedProblem toCached(Problem problem) {
+        List<CachedTestCase> testCases = problem.getTestCases().stream()
+                .map(this::toCached)
+                .toList();
+        return new CachedProblem(
+                problem.getId(),
+                problem.getVersion() == null ? 0L : problem.getVersion(),
+                problem.getContest() == null ? null : problem.getContest().getId(),
+                problem.getContest() == null || problem.getContest().getScoringMode() == null
+                        ? defaultScoringMode : problem.getContest().getScoringMode(),
+                problem.getTitle(),
+                problem.getStatement(),
+                problem.getDifficulty(),
+                problem.getCheckerMode() == null ? CheckerMode.TRIMMED : problem.getCheckerMode(),
+                problem.getCheckerDigest() == null ? null : testDataStore.resolve(problem.getCheckerDigest()),
+                problem.getFloatTolerance(),
+                problem.getTimeLimitMillis(),
+                problem.getMemoryLimitMb(),
+                problem.getPidsLimit(),
+                problem.getOutputLimitKb(),
+                testCases);
+    }
+
+    private CachedTestCase toCached(TestCase testCase) {
+        return new CachedTestCase(
+                testCase.getId(),
+                testDataStore.resolve(testCase.getInputDigest()),
+                testCase.getInputSize(),
+                testDataStore.resolve(testCase.getOutputDigest()),
+                testCase.getOutputSize(),
+                testCase.isSample());
+    }
+
+    public record CatalogSnapshot(int problems, int maxProblems, long hits, long misses, double hitRate,
+                                  long evictions, long invalidations) {
+    }
+}
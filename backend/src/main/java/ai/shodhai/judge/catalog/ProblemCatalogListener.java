@@ -0,0 +1,67 @@
+package ai.shodhai.judge.catalog;
+
+import ai.shodhai.judge.domain.Problem;
+import ai.shodhai.judge.domain.TestCase;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class ProblemCatalogListener {
+
+    private final ObjectProvider<ProblemCatalog> catalog;
+    private final ObjectProvider<EntityManager> entityManager;
+
+    public ProblemCatalogListener(ObjectProvider<ProblemCatalog> catalog, ObjectProvider<EntityManager> entityManager) {
+        this.catalog = catalog;
+        this.entityManager = entityManager;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        String problemId = problemId(entity);
+        if (problemId == null) {
+            return;
+        }
+        if (entity instanceof TestCase testCase) {
+            bumpVersion(testCase.getProblem());
+        }
+        invalidate(problemId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(problemId);
+                }
+            });
+        }
+    }
+
+    private void bumpVersion(Problem problem) {
+        entityManager.ifAvailable(manager -> {
+            if (manager.isJoinedToTransaction() && manager.contains(problem)) {
+                manager.lock(problem, LockModeType.OPTIMISTIC_FORCE_INCREMENT);
+            }
+        });
+    }
+
+    private void invalidate(String problemId) {
+        catalog.ifAvailable(problemCatalog -> problemCatalog.invalidate(problemId));
+    }
+
+    private String problemId(Object entity) {
+        if (entity instanceof Problem problem) {
+            return problem.getId();
+        }
+        if (entity instanceof TestCase testCase && testCase.getProblem() != null) {
+            return testCase.getProblem().getId();
+        }
+        return null;
+    }
+}
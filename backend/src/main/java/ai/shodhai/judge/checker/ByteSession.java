@@ -0,0 +1,88 @@
+package ai.shodhai.judge.checker;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+abstract class ByteSession implements CheckSession {
+
+    static final int SNIPPET_LENGTH = 32;
+
+    private boolean pendingCarriageReturn;
+    private long offset;
+    private String mismatch;
+
+    @Override
+    public boolean accept(byte[] buffer, int offset, int length) throws IOException {
+        if (mismatch != null) {
+            return false;
+        }
+        int limit = offset + length;
+        for (int i = offset; i < limit; i++) {
+            int value = buffer[i] & 0xff;
+            if (pendingCarriageReturn) {
+                pendingCarriageReturn = false;
+                if (value != '\n' && !dispatch('\r', buffer, i, limit)) {
+                    return false;
+                }
+            }
+            if (value == '\r') {
+                pendingCarriageReturn = true;
+            } else if (!dispatch(value, buffer, i, limit)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public CheckResult finish() throws IOException {
+        if (mismatch == null && pendingCarriageReturn) {
+            pendingCarriageReturn = false;
+            dispatch('\r', new byte[0], 0, 0);
+        }
+        if (mismatch == null && !onEnd()) {
+            String actual = actualSnippet();
+            mismatch = describe(actual == null ? "" : actual, offset);
+        }
+        return mismatch == null ? CheckResult.pass() : CheckResult.wrongAnswer(mismatch);
+    }
+
+    protected abstract boolean onByte(int value) throws IOException;
+
+    protected abstract boolean onEnd() throws IOException;
+
+    protected abstract String expectedSnippet() throws IOException;
+
+    protected String actualSnippet() {
+        return null;
+    }
+
+    private boolean dispatch(int value, byte[] buffer, int index, int limit) throws IOException {
+        if (onByte(value)) {
+            offset++;
+            return true;
+        }
+        String actual = actualSnippet();
+        if (actual == null) {
+            int length = Math.min(SNIPPET_LENGTH, limit - index);
+            actual = new String(buffer, index, Math.max(0, length), StandardCharsets.UTF_8);
+        }
+        mismatch = describe(actual, offset);
+        return false;
+    }
+
+    private String describe(String actual, long at) throws IOException {
+        String expected = firstLine(expectedSnippet());
+        actual = firstLine(actual);
+        if (at == 0) {
+            return "Expected '%s' but got '%s'".formatted(expected, actual);
+        }
+        return "Output differs at byte %d: expected '%s' but got '%s'".formatted(at, expected, actual);
+    }
+
+    private static String firstLine(String snippet) {
+        String normalized = snippet.replace("\r\n", "\n");
+        int newline = normalized.indexOf('\n');
+        return newline > 0 ? normalized.substring(0, newline) : normalized;
+    }
+}
@@ -0,0 +1,7 @@
+package ai.shodhai.judge.checker;
+
+import java.nio.file.Path;
+
+public record CheckContext(Path input, Path expectedOutput, Path checkerProgram, double floatTolerance,
+                           Path scratchDirectory) {
+}
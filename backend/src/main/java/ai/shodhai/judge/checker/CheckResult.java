@@ -0,0 +1,16 @@
+package ai.shodhai.judge.checker;
+
+public record CheckResult(boolean accepted, String verdict, String message) {
+
+    public static CheckResult pass() {
+        return new CheckResult(true, "Accepted", null);
+    }
+
+    public static CheckResult wrongAnswer(String message) {
+        return new CheckResult(false, "Wrong Answer", message);
+    }
+
+    public static CheckResult checkerError(String message) {
+        return new CheckResult(false, "Checker Error", message);
+    }
+}
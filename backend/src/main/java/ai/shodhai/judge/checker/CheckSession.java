@@ -0,0 +1,15 @@
+package ai.shodhai.judge.checker;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+public interface CheckSession extends Closeable {
+
+    boolean accept(byte[] buffer, int offset, int length) throws IOException;
+
+    CheckResult finish() throws IOException, InterruptedException;
+
+    @Override
+    default void close() throws IOException {
+    }
+}
@@ -0,0 +1,51 @@
+package ai.shodhai.judge.checker;
+
+import ai.shodhai.judge.domain.CheckerMode;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+@Component
+public class ExactChecker implements OutputChecker {
+
+    @Override
+    public CheckerMode mode() {
+        return CheckerMode.EXACT;
+    }
+
+    @Override
+    public CheckSession open(CheckContext context) throws IOException {
+        return new Session(ExpectedStream.open(context.expectedOutput()));
+    }
+
+    private static final class Session extends ByteSession {
+        private final ExpectedStream expected;
+        private long mark;
+
+        private Session(ExpectedStream expected) {
+            this.expected = expected;
+        }
+
+        @Override
+        protected boolean onByte(int value) throws IOException {
+            mark = expected.position();
+            return expected.next() == value;
+        }
+
+        @Override
+        protected boolean onEnd() {
+            mark = expected.position();
+            return expected.atEnd();
+        }
+
+        @Override
+        protected String expectedSnippet() throws IOException {
+            return expected.snippet(mark, SNIPPET_LENGTH);
+        }
+
+        @Override
+        public void close() throws IOException {
+            expected.close();
+        }
+    }
+}
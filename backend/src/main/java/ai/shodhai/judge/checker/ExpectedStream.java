@@ -0,0 +1,156 @@
+package ai.shodhai.judge.checker;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+final class ExpectedStream implements Closeable {
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    private final long end;
+    private long position;
+
+    private ExpectedStream(FileChannel channel, long start, long end) {
+        this.channel = channel;
+        this.position = start;
+        this.end = end;
+        buffer.limit(0);
+    }
+
+    static ExpectedStream open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        return new ExpectedStream(channel, 0, channel.size());
+    }
+
+    static ExpectedStream openTrimmed(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            long start = firstNonWhitespace(channel);
+            long end = start < channel.size() ? lastNonWhitespace(channel, start) + 1 : start;
+            return new ExpectedStream(channel, start, end);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    static boolean isWhitespace(int value) {
+        return value >= 0 && value <= ' ';
+    }
+
+    long position() {
+        return position;
+    }
+
+    boolean atEnd() {
+        return position >= end;
+    }
+
+    int next() throws IOException {
+        int value = read();
+        if (value == '\r' && peek() == '\n') {
+            value = read();
+        }
+        return value;
+    }
+
+    int peek() throws IOException {
+        if (position >= end || (!buffer.hasRemaining() && !fill())) {
+            return -1;
+        }
+        return buffer.get(buffer.position()) & 0xff;
+    }
+
+    boolean startToken() throws IOException {
+        while (isWhitespace(peek())) {
+            read();
+        }
+        return !atEnd();
+    }
+
+    int nextTokenByte() throws IOException {
+        int value = peek();
+        if (value < 0 || isWhitespace(value)) {
+            return -1;
+        }
+        return read();
+    }
+
+    String snippet(long from, int maxLength) throws IOException {
+        int length = (int) Math.max(0, Math.min(maxLength, end - from));
+        ByteBuffer snippet = ByteBuffer.allocate(length);
+        int read = 0;
+        while (snippet.hasRemaining() && read >= 0) {
+            read = channel.read(snippet, from + snippet.position());
+        }
+        return new String(snippet.array(), 0, snippet.position(), StandardCharsets.UTF_8).replace("\r\n", "\n");
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private int read() throws IOException {
+        if (position >= end || (!buffer.hasRemaining() && !fill())) {
+            return -1;
+        }
+        position++;
+        return buffer.get() & 0xff;
+    }
+
+    private boolean fill() throws IOException {
+        buffer.clear();
+        buffer.limit((int) Math.min(BUFFER_SIZE, end - position));
+        int read = channel.read(buffer, position);
+        buffer.flip();
+        return read > 0;
+    }
+
+    private static long firstNonWhitespace(FileChannel channel) throws IOException {
+        ByteBuffer scan = ByteBuffer.allocate(BUFFER_SIZE);
+        long offset = 0;
+        long size = channel.size();
+        while (offset < size) {
+            scan.clear();
+            int read = channel.read(scan, offset);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (!isWhitespace(scan.get(i) & 0xff)) {
+                    return offset + i;
+                }
+            }
+            offset += read;
+        }
+        return size;
+    }
+
+    private static long lastNonWhitespace(FileChannel channel, long start) throws IOException {
+        ByteBuffer scan = ByteBuffer.allocate(BUFFER_SIZE);
+        long offset = channel.size();
+        while (offset > start) {
+            int length = (int) Math.min(BUFFER_SIZE, offset - start);
+            scan.clear();
+            scan.limit(length);
+            if (channel.read(scan, offset - length) < length) {
+                throw new IOException("Expected output changed while reading");
+            }
+            for (int i = length - 1; i >= 0; i--) {
+                if (!isWhitespace(scan.get(i) & 0xff)) {
+                    return offset - length + i;
+                }
+            }
+            offset -= length;
+        }
+        return start;
+    }
+}
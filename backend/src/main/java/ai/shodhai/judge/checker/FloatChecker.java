@@ -0,0 +1,148 @@
+package ai.shodhai.judge.checker;
+
+import ai.shodhai.judge.domain.CheckerMode;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+@Component
+public class FloatChecker implements OutputChecker {
+
+    private static final int MAX_TOKEN_LENGTH = 64 * 1024;
+
+    @Override
+    public CheckerMode mode() {
+        return CheckerMode.FLOAT;
+    }
+
+    @Override
+    public CheckSession open(CheckContext context) throws IOException {
+        return new Session(ExpectedStream.open(context.expectedOutput()), context.floatTolerance());
+    }
+
+    static boolean matches(String expected, String actual, double tolerance) {
+        if (expected.equals(actual)) {
+            return true;
+        }
+        double expectedValue;
+        double actualValue;
+        try {
+            expectedValue = Double.parseDouble(expected);
+            actualValue = Double.parseDouble(actual);
+        } catch (NumberFormatException e) {
+            return false;
+        }
+        if (Double.isNaN(expectedValue) || Double.isNaN(actualValue)) {
+            return Double.isNaN(expectedValue) && Double.isNaN(actualValue);
+        }
+        if (Double.isInfinite(expectedValue) || Double.isInfinite(actualValue)) {
+            return expectedValue == actualValue;
+        }
+        double difference = Math.abs(expectedValue - actualValue);
+        return difference <= tolerance || difference <= tolerance * Math.abs(expectedValue);
+    }
+
+    private static final class Session extends ByteSession {
+        private final ExpectedStream expected;
+        private final double tolerance;
+        private final Token actualToken = new Token();
+        private final Token expectedToken = new Token();
+        private long mark;
+        private String actualMismatch;
+
+        private Session(ExpectedStream expected, double tolerance) {
+            this.expected = expected;
+            this.tolerance = tolerance;
+        }
+
+        @Override
+        protected boolean onByte(int value) throws IOException {
+            if (!ExpectedStream.isWhitespace(value)) {
+                if (!actualToken.append(value)) {
+                    actualMismatch = actualToken.text() + "...";
+                    mark = expected.position();
+                    return false;
+                }
+                return true;
+            }
+            return actualToken.isEmpty() || compareToken();
+        }
+
+        @Override
+        protected boolean onEnd() throws IOException {
+            if (!actualToken.isEmpty() && !compareToken()) {
+                return false;
+            }
+            boolean extraExpected = expected.startToken();
+            mark = expected.position();
+            actualMismatch = "";
+            return !extraExpected;
+        }
+
+        @Override
+        protected String expectedSnippet() throws IOException {
+            return expected.snippet(mark, SNIPPET_LENGTH);
+        }
+
+        @Override
+        protected String actualSnippet() {
+            return actualMismatch;
+        }
+
+        @Override
+        public void close() throws IOException {
+            expected.close();
+        }
+
+        private boolean compareToken() throws IOException {
+            expectedToken.clear();
+            boolean present = expected.startToken();
+            mark = expected.position();
+            if (present) {
+                int value;
+                while ((value = expected.nextTokenByte()) >= 0) {
+                    if (!expectedToken.append(value)) {
+                        break;
+                    }
+                }
+            }
+            String actual = actualToken.text();
+            actualToken.clear();
+            if (!present || !matches(expectedToken.text(), actual, tolerance)) {
+                actualMismatch = actual;
+                return false;
+            }
+            return true;
+        }
+    }
+
+    private static final class Token {
+        private byte[] bytes = new byte[32];
+        private int length;
+
+        private boolean append(int value) {
+            if (length == MAX_TOKEN_LENGTH) {
+                return false;
+            }
+            if (length == bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.min(MAX_TOKEN_LENGTH, bytes.length * 2));
+            }
+            bytes[length++] = (byte) value;
+            return true;
+        }
+
+        private boolean isEmpty() {
+            return length == 0;
+        }
+
+        private void clear() {
+            length = 0;
+        }
+
+        private String text() {
+            return new String(bytes, 0, length, StandardCharsets.UTF_8);
+        }
+    }
+}
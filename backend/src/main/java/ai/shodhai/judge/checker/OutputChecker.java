@@ -0,0 +1,12 @@
+package ai.shodhai.judge.checker;
+
+import ai.shodhai.judge.domain.CheckerMode;
+
+import java.io.IOException;
+
+public interface OutputChecker {
+
+    CheckerMode mode();
+
+    CheckSession open(CheckContext context) throws IOException;
+}
@@ -0,0 +1,28 @@
+package ai.shodhai.judge.checker;
+
+import ai.shodhai.judge.domain.CheckerMode;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+public class OutputCheckers {
+
+    private final Map<CheckerMode, OutputChecker> checkers = new EnumMap<>(CheckerMode.class);
+
+    public OutputCheckers(List<OutputChecker> checkers) {
+        for (OutputChecker checker : checkers) {
+            this.checkers.put(checker.mode(), checker);
+        }
+    }
+
+    public OutputChecker get(CheckerMode mode) {
+        OutputChecker checker = checkers.get(mode == null ? CheckerMode.TRIMMED : mode);
+        if (checker == null) {
+            throw new IllegalArgumentException("No output checker registered for " + mode);
+        }
+        return checker;
+    }
+}
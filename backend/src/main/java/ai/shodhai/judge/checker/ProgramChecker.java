@@ -0,0 +1,113 @@
+package ai.shodhai.judge.checker;
+
+import ai.shodhai.judge.domain.CheckerMode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class ProgramChecker implements OutputChecker {
+
+    private static final int MESSAGE_LIMIT = 200;
+
+    private final long timeoutSeconds;
+
+    public ProgramChecker(@Value("${judge.checker.program-timeout-seconds:10}") long timeoutSeconds) {
+        this.timeoutSeconds = timeoutSeconds;
+    }
+
+    @Override
+    public CheckerMode mode() {
+        return CheckerMode.PROGRAM;
+    }
+
+    @Override
+    public CheckSession open(CheckContext context) throws IOException {
+        if (context.checkerProgram() == null) {
+            throw new IOException("Problem uses a checker program but none is configured");
+        }
+        Path actual = Files.createTempFile(context.scratchDirectory(), "actual-", ".txt");
+        return new Session(context, actual);
+    }
+
+    private final class Session implements CheckSession {
+        private final CheckContext context;
+        private final Path actual;
+        private final OutputStream out;
+
+        private Session(CheckContext context, Path actual) throws IOException {
+            this.context = context;
+            this.actual = actual;
+            this.out = new BufferedOutputStream(Files.newOutputStream(actual));
+        }
+
+        @Override
+        public boolean accept(byte[] buffer, int offset, int length) throws IOException {
+            out.write(buffer, offset, length);
+            return true;
+        }
+
+        @Override
+        public CheckResult finish() throws IOException, InterruptedException {
+            out.close();
+            Path checker = context.checkerProgram();
+            if (!Files.isExecutable(checker) && !checker.toFile().setExecutable(true)) {
+                return CheckResult.checkerError("Checker program is not executable");
+            }
+            Path feedback = Files.createTempFile(context.scratchDirectory(), "checker-", ".txt");
+            try {
+                Process process = new ProcessBuilder(List.of(checker.toString(), context.input().toString(),
+                        context.expectedOutput().toString(), actual.toString()))
+                        .directory(context.scratchDirectory().toFile())
+                        .redirectErrorStream(true)
+                        .redirectOutput(feedback.toFile())
+                        .start();
+                process.getOutputStream().close();
+                boolean finished;
+                try {
+                    finished = process.waitFor(timeoutSeconds, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    process.destroyForcibly();
+                    throw e;
+                }
+                if (!finished) {
+                    process.destroyForcibly();
+                    return CheckResult.checkerError("Checker timed out");
+                }
+                return verdict(process.exitValue(), readMessage(feedback));
+            } finally {
+                Files.deleteIfExists(feedback);
+            }
+        }
+
+        private CheckResult verdict(int exitCode, String message) {
+            return switch (exitCode) {
+                case 0 -> CheckResult.pass();
+                case 1, 2 -> CheckResult.wrongAnswer(message.isEmpty() ? "Rejected by checker" : message);
+                default -> CheckResult.checkerError("Checker exited with code " + exitCode
+                        + (message.isEmpty() ? "" : ": " + message));
+            };
+        }
+
+        private String readMessage(Path feedback) throws IOException {
+            try (InputStream in = Files.newInputStream(feedback)) {
+                return new String(in.readNBytes(MESSAGE_LIMIT), StandardCharsets.UTF_8).trim();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+            Files.deleteIfExists(actual);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package ai.shodhai.judge.checker;
+
+import ai.shodhai.judge.domain.CheckerMode;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+@Component
+public class TokenChecker implements OutputChecker {
+
+    @Override
+    public CheckerMode mode() {
+        return CheckerMode.TOKENS;
+    }
+
+    @Override
+    public CheckSession open(CheckContext context) throws IOException {
+        return new Session(ExpectedStream.open(context.expectedOutput()));
+    }
+
+    private static final class Session extends ByteSession {
+        private final ExpectedStream expected;
+        private boolean inToken;
+        private long mark;
+
+        private Session(ExpectedStream expected) {
+            this.expected = expected;
+        }
+
+        @Override
+        protected boolean onByte(int value) throws IOException {
+            if (ExpectedStream.isWhitespace(value)) {
+                if (inToken) {
+                    inToken = false;
+                    mark = expected.position();
+                    return expected.nextTokenByte() < 0;
+                }
+                return true;
+            }
+            if (!inToken) {
+                if (!expected.startToken()) {
+                    mark = expected.position();
+                    return false;
+                }
+                inToken = true;
+            }
+            mark = expected.position();
+            return expected.nextTokenByte() == value;
+        }
+
+        @Override
+        protected boolean onEnd() throws IOException {
+            mark = expected.position();
+            if (inToken && expected.nextTokenByte() >= 0) {
+                return false;
+            }
+            boolean extraExpected = expected.startToken();
+            mark = expected.position();
+            return !extraExpected;
+        }
+
+        @Override
+        protected String expectedSnippet() throws IOException {
+            return expected.snippet(mark, SNIPPET_LENGTH);
+        }
+
+        @Override
+        public void close() throws IOException {
+            expected.close();
+        }
+    }
+}
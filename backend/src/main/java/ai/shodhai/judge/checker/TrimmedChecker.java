@@ -0,0 +1,61 @@
+package ai.shodhai.judge.checker;
+
+import ai.shodhai.judge.domain.CheckerMode;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+@Component
+public class TrimmedChecker implements OutputChecker {
+
+    @Override
+    public CheckerMode mode() {
+        return CheckerMode.TRIMMED;
+    }
+
+    @Override
+    public CheckSession open(CheckContext context) throws IOException {
+        return new Session(ExpectedStream.openTrimmed(context.expectedOutput()));
+    }
+
+    private static final class Session extends ByteSession {
+        private final ExpectedStream expected;
+        private boolean started;
+        private long mark;
+
+        private Session(ExpectedStream expected) {
+            this.expected = expected;
+        }
+
+        @Override
+        protected boolean onByte(int value) throws IOException {
+            if (!started) {
+                if (ExpectedStream.isWhitespace(value)) {
+                    return true;
+                }
+                started = true;
+            }
+            mark = expected.position();
+            if (expected.atEnd()) {
+                return ExpectedStream.isWhitespace(value);
+            }
+            return expected.next() == value;
+        }
+
+        @Override
+        protected boolean onEnd() {
+            mark = expected.position();
+            return expected.atEnd();
+        }
+
+        @Override
+        protected String expectedSnippet() throws IOException {
+            return expected.snippet(mark, SNIPPET_LENGTH);
+        }
+
+        @Override
+        public void close() throws IOException {
+            expected.close();
+        }
+    }
+}
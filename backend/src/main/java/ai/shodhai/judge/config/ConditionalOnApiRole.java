@@ -0,0 +1,16 @@
+package ai.shodhai.judge.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@ConditionalOnExpression("!'${judge.role:ALL}'.equalsIgnoreCase('WORKER')")
+public @interface ConditionalOnApiRole {
+}
@@ -5,7 +5,10 @@ import ai.shodhai.judge.domain.Problem;
 import ai.shodhai.judge.domain.TestCase;
 import ai.shodhai.judge.repository.ContestRepository;
 import ai.shodhai.judge.repository.ProblemRepository;
+import ai.shodhai.judge.storage.StoredBlob;
+import ai.shodhai.judge.storage.TestDataStore;
 import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,21 +17,32 @@ public class DataInitializer {
 
     private final ContestRepository contestRepository;
     private final ProblemRepository problemRepository;
+    private final TestDataStore testDataStore;
+    private final NodeRole role;
 
-    public DataInitializer(ContestRepository contestRepository, ProblemRepository problemRepository) {
+    public DataInitializer(ContestRepository contestRepository, ProblemRepository problemRepository,
+                           TestDataStore testDataStore, @Value("${judge.role:ALL}") NodeRole role) {
         this.contestRepository = contestRepository;
         this.problemRepository = problemRepository;
+        this.testDataStore = testDataStore;
+        this.role = role;
     }
 
     @PostConstruct
     @Transactional
     public void populate() {
+        if (!role.servesApi()) {
+            return;
+        }
         createWinterOpenContestIfMissing();
         createSodhAiContestIfMissing();
     }
 
     private TestCase testCase(Problem problem, String input, String expected) {
-        TestCase testCase = new TestCase(input, expected, false);
+        StoredBlob inputBlob = testDataStore.store(input);
+        StoredBlob outputBlob = testDataStore.store(expected);
+        TestCase testCase = new TestCase(inputBlob.digest(), inputBlob.size(), outputBlob.digest(), outputBlob.size(),
+                problem.getTestCases().isEmpty());
         testCase.setProblem(problem);
         return testCase;
     }
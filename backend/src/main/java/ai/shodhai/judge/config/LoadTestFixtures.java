@@ -0,0 +1,73 @@
+package ai.shodhai.judge.config;
+
+import ai.shodhai.judge.domain.Contest;
+import ai.shodhai.judge.domain.Problem;
+import ai.shodhai.judge.domain.TestCase;
+import ai.shodhai.judge.repository.ContestRepository;
+import ai.shodhai.judge.repository.ProblemRepository;
+import ai.shodhai.judge.storage.StoredBlob;
+import ai.shodhai.judge.storage.TestDataStore;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@Component
+@ConditionalOnProperty(name = "judge.load-test.fixtures", havingValue = "true")
+public class LoadTestFixtures {
+
+    private final ContestRepository contestRepository;
+    private final ProblemRepository problemRepository;
+    private final TestDataStore testDataStore;
+    private final NodeRole role;
+    private final int sequenceLength;
+
+    public LoadTestFixtures(ContestRepository contestRepository, ProblemRepository problemRepository,
+                            TestDataStore testDataStore, @Value("${judge.role:ALL}") NodeRole role,
+                            @Value("${judge.load-test.sequence-length:200000}") int sequenceLength) {
+        this.contestRepository = contestRepository;
+        this.problemRepository = problemRepository;
+        this.testDataStore = testDataStore;
+        this.role = role;
+        this.sequenceLength = Math.max(1, sequenceLength);
+    }
+
+    @PostConstruct
+    @Transactional
+    public void populate() {
+        if (!role.servesApi() || contestRepository.existsById("load-test")) {
+            return;
+        }
+
+        Contest contest = new Contest("load-test", "Load Test", "Synthetic contest used by the contest simulation harness.");
+        contestRepository.save(contest);
+
+        Problem sum = new Problem("load-sum", "Load Sum", "Read two integers and output their sum.", "Easy");
+        sum.setContest(contest);
+        sum.setTimeLimitMillis(1000);
+        sum.getTestCases().add(testCase(sum, "1 2\n", "3"));
+        sum.getTestCases().add(testCase(sum, "10 32\n", "42"));
+        sum.getTestCases().add(testCase(sum, "-5 5\n", "0"));
+
+        Problem sequence = new Problem("load-sequence", "Load Sequence", "Read N and print the numbers from 1 to N, one per line.", "Easy");
+        sequence.setContest(contest);
+        sequence.getTestCases().add(testCase(sequence, sequenceLength + "\n",
+                IntStream.rangeClosed(1, sequenceLength).mapToObj(Integer::toString).collect(Collectors.joining("\n"))));
+
+        problemRepository.save(sum);
+        problemRepository.save(sequence);
+    }
+
+    private TestCase testCase(Problem problem, String input, String expected) {
+        StoredBlob inputBlob = testDataStore.store(input);
+        StoredBlob outputBlob = testDataStore.store(expected);
+        TestCase testCase = new TestCase(inputBlob.digest(), inputBlob.size(), outputBlob.digest(), outputBlob.size(),
+                problem.getTestCases().isEmpty());
+        testCase.setProblem(problem);
+        return testCase;
+    }
+}
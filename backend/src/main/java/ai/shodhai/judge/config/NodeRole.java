@@ -0,0 +1,15 @@
+package ai.shodhai.judge.config;
+
+public enum NodeRole {
+    ALL,
+    API,
+    WORKER;
+
+    public boolean servesApi() {
+        return this != WORKER;
+    }
+
+    public boolean runsWorkers() {
+        return this != API;
+    }
+}
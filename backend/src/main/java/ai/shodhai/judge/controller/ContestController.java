@@ -1,42 +1,85 @@
 package ai.shodhai.judge.controller;
 
+import ai.shodhai.judge.config.ConditionalOnApiRole;
 import ai.shodhai.judge.dto.ContestResponse;
 import ai.shodhai.judge.dto.LeaderboardEntryResponse;
 import ai.shodhai.judge.dto.ProblemResponse;
 import ai.shodhai.judge.service.ContestService;
 import ai.shodhai.judge.service.LeaderboardService;
+import ai.shodhai.judge.service.LiveUpdateService;
+import ai.shodhai.judge.storage.ContentHash;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
 @RestController
+@ConditionalOnApiRole
 @RequestMapping("/api/contests")
 public class ContestController {
 
+    private static final int DEFAULT_LEADERBOARD_PAGE_SIZE = 100;
+
     private final ContestService contestService;
     private final LeaderboardService leaderboardService;
+    private final LiveUpdateService liveUpdateService;
 
-    public ContestController(ContestService contestService, LeaderboardService leaderboardService) {
+    public ContestController(ContestService contestService, LeaderboardService leaderboardService,
+                             LiveUpdateService liveUpdateService) {
         this.contestService = contestService;
         this.leaderboardService = leaderboardService;
+        this.liveUpdateService = liveUpdateService;
     }
 
     @GetMapping("/{contestId}")
-    public ResponseEntity<ContestResponse> getContest(@PathVariable("contestId") String contestId) {
-        return ResponseEntity.ok(contestService.getContest(contestId));
+    public ResponseEntity<ContestResponse> getContest(@PathVariable("contestId") String contestId, WebRequest request) {
+        ContestResponse contest = contestService.getContest(contestId);
+        String etag = ContentHash.sha256().add(contest.contestId()).add(contest.name()).add(contest.description()).hex();
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).eTag(etag).body(contest);
     }
 
     @GetMapping("/{contestId}/problems")
-    public ResponseEntity<List<ProblemResponse>> getProblems(@PathVariable("contestId") String contestId) {
-        return ResponseEntity.ok(contestService.getProblems(contestId));
+    public ResponseEntity<List<ProblemResponse>> getProblems(@PathVariable("contestId") String contestId,
+                                                             WebRequest request) {
+        String etag = contestService.getProblemsTag(contestId);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).eTag(etag).body(contestService.getProblems(contestId));
     }
 
     @GetMapping("/{contestId}/leaderboard")
-    public ResponseEntity<List<LeaderboardEntryResponse>> getLeaderboard(@PathVariable("contestId") String contestId) {
-        return ResponseEntity.ok(leaderboardService.getLeaderboard(contestId));
+    public ResponseEntity<List<LeaderboardEntryResponse>> getLeaderboard(@PathVariable("contestId") String contestId,
+                                                                         @RequestParam(value = "page", required = false) Integer page,
+                                                                         @RequestParam(value = "size", required = false) Integer size,
+                                                                         WebRequest request) {
+        boolean paged = page != null || size != null;
+        int pageNumber = page == null ? 0 : page;
+        int pageSize = paged ? (size == null ? DEFAULT_LEADERBOARD_PAGE_SIZE : size) : Integer.MAX_VALUE;
+        if (pageNumber < 0 || pageSize < 1) {
+            throw new IllegalArgumentException("page must be >= 0 and size must be >= 1");
+        }
+        String etag = leaderboardService.getLeaderboardTag(contestId);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).eTag(etag)
+                .body(leaderboardService.getLeaderboard(contestId, pageNumber, pageSize));
+    }
+
+    @GetMapping(value = "/{contestId}/leaderboard/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamLeaderboard(@PathVariable("contestId") String contestId) {
+        return liveUpdateService.subscribeToLeaderboard(contestId);
     }
 }
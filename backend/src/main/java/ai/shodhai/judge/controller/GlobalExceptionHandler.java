@@ -1,5 +1,7 @@
 package ai.shodhai.judge.controller;
 
+import ai.shodhai.judge.service.SubmissionRejectedException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -20,6 +22,18 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(body);
     }
 
+    @ExceptionHandler(SubmissionRejectedException.class)
+    public ResponseEntity<Map<String, Object>> handleRejected(SubmissionRejectedException exception) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("message", exception.getMessage());
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(exception.getStatus());
+        if (exception.getRetryAfter() != null) {
+            body.put("retryAfterSeconds", exception.getRetryAfter().toSeconds());
+            response.header(HttpHeaders.RETRY_AFTER, Long.toString(exception.getRetryAfter().toSeconds()));
+        }
+        return response.body(body);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Map<String, Object>> handleValidation(MethodArgumentNotValidException exception) {
         Map<String, Object> body = new HashMap<>();
@@ -0,0 +1,158 @@
+package ai.shodhai.judge.controller;
+
+import ai.shodhai.judge.catalog.ProblemCatalog;
+import ai.shodhai.judge.catalog.ProblemCatalog.CatalogSnapshot;
+import ai.shodhai.judge.config.ConditionalOnApiRole;
+import ai.shodhai.judge.dto.AdmissionStatusResponse;
+import ai.shodhai.judge.dto.CacheStatusResponse;
+import ai.shodhai.judge.dto.CatalogStatusResponse;
+import ai.shodhai.judge.dto.NodeStatusResponse;
+import ai.shodhai.judge.dto.QueueClassStatusResponse;
+import ai.shodhai.judge.dto.RuntimeResponse;
+import ai.shodhai.judge.dto.WorkerStatusResponse;
+import ai.shodhai.judge.runtime.RuntimeRegistry;
+import ai.shodhai.judge.service.NodeRegistry;
+import ai.shodhai.judge.service.SubmissionAdmission;
+import ai.shodhai.judge.service.SubmissionProcessingService;
+import ai.shodhai.judge.service.SubmissionQueue;
+import ai.shodhai.judge.service.SubmissionResultCache;
+import ai.shodhai.judge.storage.ArtifactCache;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@ConditionalOnApiRole
+@RequestMapping("/api/judge")
+public class JudgeController {
+
+    private final SubmissionProcessingService processingService;
+    private final SubmissionQueue submissionQueue;
+    private final ProblemCatalog problemCatalog;
+    private final RuntimeRegistry runtimeRegistry;
+    private final SubmissionResultCache resultCache;
+    private final ArtifactCache artifactCache;
+    private final SubmissionAdmission submissionAdmission;
+    private final NodeRegistry nodeRegistry;
+
+    public JudgeController(SubmissionProcessingService processingService, SubmissionQueue submissionQueue,
+                           ProblemCatalog problemCatalog, RuntimeRegistry runtimeRegistry,
+                           SubmissionResultCache resultCache, ArtifactCache artifactCache,
+                           SubmissionAdmission submissionAdmission, NodeRegistry nodeRegistry) {
+        this.processingService = processingService;
+        this.submissionQueue = submissionQueue;
+        this.problemCatalog = problemCatalog;
+        this.runtimeRegistry = runtimeRegistry;
+        this.resultCache = resultCache;
+        this.artifactCache = artifactCache;
+        this.submissionAdmission = submissionAdmission;
+        this.nodeRegistry = nodeRegistry;
+    }
+
+    @GetMapping("/nodes")
+    public ResponseEntity<List<NodeStatusResponse>> getNodes() {
+        List<NodeStatusResponse> nodes = nodeRegistry.getNodes().stream()
+                .map(node -> new NodeStatusResponse(
+                        node.nodeId(),
+                        node.role().name(),
+                        node.alive(),
+                        node.workers(),
+                        node.busyWorkers(),
+                        node.processed(),
+                        node.startedAt(),
+                        node.lastHeartbeat()
+                ))
+                .toList();
+        return ResponseEntity.ok(nodes);
+    }
+
+    @GetMapping("/admission")
+    public ResponseEntity<AdmissionStatusResponse> getAdmission() {
+        SubmissionAdmission.AdmissionSnapshot snapshot = submissionAdmission.snapshot();
+        return ResponseEntity.ok(new AdmissionStatusResponse(
+                snapshot.admitted(),
+                snapshot.rejectedSize(),
+                snapshot.rejectedRate(),
+                snapshot.rejectedQueue(),
+                snapshot.userBuckets(),
+                snapshot.contestBuckets()
+        ));
+    }
+
+    @GetMapping("/caches")
+    public ResponseEntity<List<CacheStatusResponse>> getCaches() {
+        SubmissionResultCache.CacheSnapshot results = resultCache.snapshot();
+        ArtifactCache.CacheSnapshot artifacts = artifactCache.snapshot();
+        return ResponseEntity.ok(List.of(
+                new CacheStatusResponse("results", results.entries(), results.hits(), results.misses(),
+                        hitRate(results.hits(), results.misses()), results.stores()),
+                new CacheStatusResponse("artifacts", artifacts.entries(), artifacts.hits(), artifacts.misses(),
+                        hitRate(artifacts.hits(), artifacts.misses()), artifacts.stores())
+        ));
+    }
+
+    @GetMapping("/runtimes")
+    public ResponseEntity<List<RuntimeResponse>> getRuntimes() {
+        List<RuntimeResponse> runtimes = runtimeRegistry.all().stream()
+                .map(runtime -> new RuntimeResponse(
+                        runtime.id(),
+                        runtime.aliases(),
+                        runtime.requiresCompilation(),
+                        runtime.timeMultiplier()
+                ))
+                .toList();
+        return ResponseEntity.ok(runtimes);
+    }
+
+    @GetMapping("/catalog")
+    public ResponseEntity<CatalogStatusResponse> getCatalog() {
+        CatalogSnapshot snapshot = problemCatalog.snapshot();
+        return ResponseEntity.ok(new CatalogStatusResponse(
+                snapshot.problems(),
+                snapshot.maxProblems(),
+                snapshot.hits(),
+                snapshot.misses(),
+                snapshot.hitRate(),
+                snapshot.evictions(),
+                snapshot.invalidations()
+        ));
+    }
+
+    @GetMapping("/queue")
+    public ResponseEntity<List<QueueClassStatusResponse>> getQueue() {
+        List<QueueClassStatusResponse> classes = submissionQueue.getClassSnapshots().stream()
+                .map(snapshot -> new QueueClassStatusResponse(
+                        snapshot.queueClass().name(),
+                        snapshot.depth(),
+                        snapshot.oldestWaitSeconds(),
+                        snapshot.claimed(),
+                        snapshot.averageWaitSeconds(),
+                        snapshot.maxWaitSeconds()
+                ))
+                .toList();
+        return ResponseEntity.ok(classes);
+    }
+
+    @GetMapping("/workers")
+    public ResponseEntity<List<WorkerStatusResponse>> getWorkers() {
+        List<WorkerStatusResponse> workers = processingService.getWorkerSnapshots().stream()
+                .map(worker -> new WorkerStatusResponse(
+                        worker.workerId(),
+                        worker.currentSubmission() == null ? "Idle" : "Busy",
+                        worker.currentSubmission() == null ? null : worker.currentSubmission().toString(),
+                        worker.processed(),
+                        worker.failed(),
+                        worker.busySeconds()
+                ))
+                .toList();
+        return ResponseEntity.ok(workers);
+    }
+
+    private double hitRate(long hits, long misses) {
+        long total = hits + misses;
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+}
@@ -1,13 +1,18 @@
 package ai.shodhai.judge.controller;
 
+import ai.shodhai.judge.config.ConditionalOnApiRole;
 import ai.shodhai.judge.domain.Submission;
-import ai.shodhai.judge.domain.SubmissionStatus;
 import ai.shodhai.judge.dto.SubmissionRequest;
 import ai.shodhai.judge.dto.SubmissionResponse;
 import ai.shodhai.judge.dto.SubmissionStatusResponse;
+import ai.shodhai.judge.repository.SubmissionStatusView;
+import ai.shodhai.judge.service.LiveUpdateService;
+import ai.shodhai.judge.service.SubmissionAdmission;
 import ai.shodhai.judge.service.SubmissionQueue;
 import ai.shodhai.judge.service.SubmissionService;
 import jakarta.validation.Valid;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -15,53 +20,58 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.UUID;
 
 @RestController
+@ConditionalOnApiRole
 @RequestMapping("/api/submissions")
 public class SubmissionController {
 
     private final SubmissionService submissionService;
     private final SubmissionQueue submissionQueue;
+    private final LiveUpdateService liveUpdateService;
+    private final SubmissionAdmission submissionAdmission;
 
-    public SubmissionController(SubmissionService submissionService, SubmissionQueue submissionQueue) {
+    public SubmissionController(SubmissionService submissionService, SubmissionQueue submissionQueue,
+                                LiveUpdateService liveUpdateService, SubmissionAdmission submissionAdmission) {
         this.submissionService = submissionService;
         this.submissionQueue = submissionQueue;
+        this.liveUpdateService = liveUpdateService;
+        this.submissionAdmission = submissionAdmission;
     }
 
     @PostMapping
     public ResponseEntity<SubmissionResponse> createSubmission(@RequestBody @Valid SubmissionRequest request) {
+        submissionAdmission.admit(request);
         Submission submission = submissionService.createSubmission(request);
         submissionQueue.enqueue(submission.getId());
         return ResponseEntity.accepted().body(new SubmissionResponse(submission.getId().toString()));
     }
 
     @GetMapping("/{submissionId}")
-    public ResponseEntity<SubmissionStatusResponse> getSubmission(@PathVariable("submissionId") String submissionId) {
-        Submission submission = submissionService.getSubmission(UUID.fromString(submissionId));
-        return ResponseEntity.ok(new SubmissionStatusResponse(
-                normalizeStatus(submission.getStatus()),
+    public ResponseEntity<SubmissionStatusResponse> getSubmission(@PathVariable("submissionId") String submissionId,
+                                                                  WebRequest request) {
+        SubmissionStatusView submission = submissionService.getSubmissionStatus(UUID.fromString(submissionId));
+        String etag = submissionId + "-" + submission.getVersion();
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).eTag(etag).body(new SubmissionStatusResponse(
+                submission.getStatus().getDisplayName(),
                 submission.getVerdict(),
                 submission.getScore(),
-                submission.getExecutionTime()
+                submission.getExecutionTime(),
+                submission.getCpuTime(),
+                submission.getPeakMemoryKb()
         ));
     }
 
-    private String normalizeStatus(SubmissionStatus status) {
-        String raw = status.name().toLowerCase().replace('_', ' ');
-        String[] parts = raw.split(" ");
-        StringBuilder builder = new StringBuilder();
-        for (int i = 0; i < parts.length; i++) {
-            if (parts[i].isEmpty()) {
-                continue;
-            }
-            if (builder.length() > 0) {
-                builder.append(' ');
-            }
-            builder.append(Character.toUpperCase(parts[i].charAt(0)))
-                    .append(parts[i].substring(1));
-        }
-        return builder.toString();
+    @GetMapping(value = "/{submissionId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamSubmission(@PathVariable("submissionId") String submissionId) {
+        UUID id = UUID.fromString(submissionId);
+        return liveUpdateService.subscribeToSubmission(id, () -> submissionService.getSubmissionStatus(id));
     }
 }
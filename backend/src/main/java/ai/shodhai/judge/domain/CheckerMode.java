@@ -0,0 +1,9 @@
+package ai.shodhai.judge.domain;
+
+public enum CheckerMode {
+    EXACT,
+    TRIMMED,
+    TOKENS,
+    FLOAT,
+    PROGRAM
+}
@@ -2,6 +2,8 @@ package ai.shodhai.judge.domain;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
@@ -30,6 +32,10 @@ public class Contest {
     @Column(name = "end_time")
     private Instant endTime;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "scoring_mode", length = 16)
+    private ScoringMode scoringMode;
+
     @OneToMany(mappedBy = "contest")
     private List<Problem> problems = new ArrayList<>();
 
@@ -82,6 +88,14 @@ public class Contest {
         this.endTime = endTime;
     }
 
+    public ScoringMode getScoringMode() {
+        return scoringMode;
+    }
+
+    public void setScoringMode(ScoringMode scoringMode) {
+        this.scoringMode = scoringMode;
+    }
+
     public List<Problem> getProblems() {
         return problems;
     }
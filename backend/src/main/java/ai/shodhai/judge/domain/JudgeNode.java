@@ -0,0 +1,93 @@
+package ai.shodhai.judge.domain;
+
+import ai.shodhai.judge.config.NodeRole;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "judge_nodes")
+public class JudgeNode {
+
+    @Id
+    @Column(name = "node_id", nullable = false, updatable = false, length = 128)
+    private String id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private NodeRole role;
+
+    @Column(nullable = false)
+    private int workers;
+
+    @Column(name = "busy_workers", nullable = false)
+    private int busyWorkers;
+
+    @Column(nullable = false)
+    private long processed;
+
+    @Column(name = "started_at", nullable = false)
+    private Instant startedAt;
+
+    @Column(name = "last_heartbeat", nullable = false)
+    private Instant lastHeartbeat;
+
+    public JudgeNode() {
+    }
+
+    public JudgeNode(String id, NodeRole role, Instant startedAt) {
+        this.id = id;
+        this.role = role;
+        this.startedAt = startedAt;
+        this.lastHeartbeat = startedAt;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public NodeRole getRole() {
+        return role;
+    }
+
+    public int getWorkers() {
+        return workers;
+    }
+
+    public void setWorkers(int workers) {
+        this.workers = workers;
+    }
+
+    public int getBusyWorkers() {
+        return busyWorkers;
+    }
+
+    public void setBusyWorkers(int busyWorkers) {
+        this.busyWorkers = busyWorkers;
+    }
+
+    public long getProcessed() {
+        return processed;
+    }
+
+    public void setProcessed(long processed) {
+        this.processed = processed;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public Instant getLastHeartbeat() {
+        return lastHeartbeat;
+    }
+
+    public void setLastHeartbeat(Instant lastHeartbeat) {
+        this.lastHeartbeat = lastHeartbeat;
+    }
+}
@@ -1,20 +1,28 @@
 package ai.shodhai.judge.domain;
 
+import ai.shodhai.judge.catalog.ProblemCatalogListener;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.OrderBy;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "problems")
+@Table(name = "problems", indexes = @Index(name = "idx_problems_contest", columnList = "contest_id"))
+@EntityListeners(ProblemCatalogListener.class)
 public class Problem {
 
     @Id
@@ -30,13 +38,39 @@ public class Problem {
     @Column(length = 32)
     private String difficulty;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "checker_mode", length = 16)
+    private CheckerMode checkerMode;
+
+    @Column(name = "checker_digest", length = 64)
+    private String checkerDigest;
+
+    @Column(name = "float_tolerance")
+    private Double floatTolerance;
+
+    @Column(name = "time_limit_ms")
+    private Integer timeLimitMillis;
+
+    @Column(name = "memory_limit_mb")
+    private Integer memoryLimitMb;
+
+    @Column(name = "pids_limit")
+    private Integer pidsLimit;
+
+    @Column(name = "output_limit_kb")
+    private Integer outputLimitKb;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "contest_id")
     private Contest contest;
 
     @OneToMany(mappedBy = "problem", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("id ASC")
     private List<TestCase> testCases = new ArrayList<>();
 
+    @Version
+    private Long version;
+
     public Problem() {
     }
 
@@ -79,6 +113,62 @@ public class Problem {
         this.difficulty = difficulty;
     }
 
+    public CheckerMode getCheckerMode() {
+        return checkerMode;
+    }
+
+    public void setCheckerMode(CheckerMode checkerMode) {
+        this.checkerMode = checkerMode;
+    }
+
+    public String getCheckerDigest() {
+        return checkerDigest;
+    }
+
+    public void setCheckerDigest(String checkerDigest) {
+        this.checkerDigest = checkerDigest;
+    }
+
+    public Double getFloatTolerance() {
+        return floatTolerance;
+    }
+
+    public void setFloatTolerance(Double floatTolerance) {
+        this.floatTolerance = floatTolerance;
+    }
+
+    public Integer getTimeLimitMillis() {
+        return timeLimitMillis;
+    }
+
+    public void setTimeLimitMillis(Integer timeLimitMillis) {
+        this.timeLimitMillis = timeLimitMillis;
+    }
+
+    public Integer getMemoryLimitMb() {
+        return memoryLimitMb;
+    }
+
+    public void setMemoryLimitMb(Integer memoryLimitMb) {
+        this.memoryLimitMb = memoryLimitMb;
+    }
+
+    public Integer getPidsLimit() {
+        return pidsLimit;
+    }
+
+    public void setPidsLimit(Integer pidsLimit) {
+        this.pidsLimit = pidsLimit;
+    }
+
+    public Integer getOutputLimitKb() {
+        return outputLimitKb;
+    }
+
+    public void setOutputLimitKb(Integer outputLimitKb) {
+        this.outputLimitKb = outputLimitKb;
+    }
+
     public Contest getContest() {
         return contest;
     }
@@ -87,6 +177,10 @@ public class Problem {
         this.contest = contest;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
     public List<TestCase> getTestCases() {
         return testCases;
     }
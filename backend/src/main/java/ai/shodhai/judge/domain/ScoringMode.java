@@ -0,0 +1,6 @@
+package ai.shodhai.judge.domain;
+
+public enum ScoringMode {
+    ICPC,
+    IOI
+}
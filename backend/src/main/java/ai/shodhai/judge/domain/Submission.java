@@ -8,6 +8,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
@@ -19,7 +20,14 @@ import java.time.Instant;
 import java.util.UUID;
 
 @Entity
-@Table(name = "submissions")
+@Table(name = "submissions", indexes = {
+        @Index(name = "idx_submissions_contest_user_created", columnList = "contest_id, user_id, created_at"),
+        @Index(name = "idx_submissions_status_user_created", columnList = "status, user_id, created_at"),
+        @Index(name = "idx_submissions_status_sample_created", columnList = "status, sample_only, created_at"),
+        @Index(name = "idx_submissions_status_created", columnList = "status, created_at"),
+        @Index(name = "idx_submissions_user_problem_status", columnList = "user_id, problem_id, status, created_at"),
+        @Index(name = "idx_submissions_updated", columnList = "updated_at, submission_id")
+})
 public class Submission {
 
     @Id
@@ -45,6 +53,9 @@ public class Submission {
     @Column(name = "source_code", columnDefinition = "TEXT")
     private String sourceCode;
 
+    @Column(name = "sample_only", nullable = false)
+    private boolean sampleOnly;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 32)
     private SubmissionStatus status = SubmissionStatus.QUEUED;
@@ -58,6 +69,24 @@ public class Submission {
     @Column(name = "execution_time")
     private Double executionTime;
 
+    @Column(name = "compile_time")
+    private Double compileTime;
+
+    @Column(name = "cpu_time")
+    private Double cpuTime;
+
+    @Column(name = "peak_memory_kb")
+    private Long peakMemoryKb;
+
+    @Column(name = "lease_owner", length = 128)
+    private String leaseOwner;
+
+    @Column(name = "lease_expires_at")
+    private Instant leaseExpiresAt;
+
+    @Column(nullable = false)
+    private int attempts;
+
     @Column(name = "created_at", nullable = false)
     private Instant createdAt = Instant.now();
 
@@ -114,6 +143,14 @@ public class Submission {
         this.sourceCode = sourceCode;
     }
 
+    public boolean isSampleOnly() {
+        return sampleOnly;
+    }
+
+    public void setSampleOnly(boolean sampleOnly) {
+        this.sampleOnly = sampleOnly;
+    }
+
     public SubmissionStatus getStatus() {
         return status;
     }
@@ -146,6 +183,50 @@ public class Submission {
         this.executionTime = executionTime;
     }
 
+    public Double getCompileTime() {
+        return compileTime;
+    }
+
+    public void setCompileTime(Double compileTime) {
+        this.compileTime = compileTime;
+    }
+
+    public Double getCpuTime() {
+        return cpuTime;
+    }
+
+    public void setCpuTime(Double cpuTime) {
+        this.cpuTime = cpuTime;
+    }
+
+    public Long getPeakMemoryKb() {
+        return peakMemoryKb;
+    }
+
+    public void setPeakMemoryKb(Long peakMemoryKb) {
+        this.peakMemoryKb = peakMemoryKb;
+    }
+
+    public String getLeaseOwner() {
+        return leaseOwner;
+    }
+
+    public void setLeaseOwner(String leaseOwner) {
+        this.leaseOwner = leaseOwner;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public Instant getLeaseExpiresAt() {
+        return leaseExpiresAt;
+    }
+
+    public void setLeaseExpiresAt(Instant leaseExpiresAt) {
+        this.leaseExpiresAt = leaseExpiresAt;
+    }
+
     public Instant getCreatedAt() {
         return createdAt;
     }
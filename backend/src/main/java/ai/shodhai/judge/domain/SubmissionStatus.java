@@ -6,6 +6,30 @@ public enum SubmissionStatus {
     ACCEPTED,
     WRONG_ANSWER,
     RUNTIME_ERROR,
+    TIME_LIMIT_EXCEEDED,
+    MEMORY_LIMIT_EXCEEDED,
+    OUTPUT_LIMIT_EXCEEDED,
     COMPILE_ERROR,
-    SYSTEM_ERROR
+    SYSTEM_ERROR;
+
+    public boolean isFinal() {
+        return this != QUEUED && this != RUNNING;
+    }
+
+    public String getDisplayName() {
+        String raw = name().toLowerCase().replace('_', ' ');
+        String[] parts = raw.split(" ");
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < parts.length; i++) {
+            if (parts[i].isEmpty()) {
+                continue;
+            }
+            if (builder.length() > 0) {
+                builder.append(' ');
+            }
+            builder.append(Character.toUpperCase(parts[i].charAt(0)))
+                    .append(parts[i].substring(1));
+        }
+        return builder.toString();
+    }
 }
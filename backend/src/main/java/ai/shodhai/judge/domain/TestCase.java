@@ -1,16 +1,20 @@
 package ai.shodhai.judge.domain;
 
+import ai.shodhai.judge.catalog.ProblemCatalogListener;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 
 @Entity
-@Table(name = "test_cases")
+@Table(name = "test_cases", indexes = @Index(name = "idx_test_cases_problem", columnList = "problem_id"))
+@EntityListeners(ProblemCatalogListener.class)
 public class TestCase {
 
     @Id
@@ -21,11 +25,17 @@ public class TestCase {
     @JoinColumn(name = "problem_id", nullable = false)
     private Problem problem;
 
-    @Column(name = "input_data", length = 4000)
-    private String inputData;
+    @Column(name = "input_digest", nullable = false, length = 64)
+    private String inputDigest;
 
-    @Column(name = "expected_output", length = 4000)
-    private String expectedOutput;
+    @Column(name = "input_size", nullable = false)
+    private long inputSize;
+
+    @Column(name = "output_digest", nullable = false, length = 64)
+    private String outputDigest;
+
+    @Column(name = "output_size", nullable = false)
+    private long outputSize;
 
     @Column(name = "is_sample")
     private boolean sample;
@@ -33,9 +43,11 @@ public class TestCase {
     public TestCase() {
     }
 
-    public TestCase(String inputData, String expectedOutput, boolean sample) {
-        this.inputData = inputData;
-        this.expectedOutput = expectedOutput;
+    public TestCase(String inputDigest, long inputSize, String outputDigest, long outputSize, boolean sample) {
+        this.inputDigest = inputDigest;
+        this.inputSize = inputSize;
+        this.outputDigest = outputDigest;
+        this.outputSize = outputSize;
         this.sample = sample;
     }
 
@@ -51,20 +63,36 @@ public class TestCase {
         this.problem = problem;
     }
 
-    public String getInputData() {
-        return inputData;
+    public String getInputDigest() {
+        return inputDigest;
+    }
+
+    public void setInputDigest(String inputDigest) {
+        this.inputDigest = inputDigest;
+    }
+
+    public long getInputSize() {
+        return inputSize;
+    }
+
+    public void setInputSize(long inputSize) {
+        this.inputSize = inputSize;
+    }
+
+    public String getOutputDigest() {
+        return outputDigest;
     }
 
-    public void setInputData(String inputData) {
-        this.inputData = inputData;
+    public void setOutputDigest(String outputDigest) {
+        this.outputDigest = outputDigest;
     }
 
-    public String getExpectedOutput() {
-        return expectedOutput;
+    public long getOutputSize() {
+        return outputSize;
     }
 
-    public void setExpectedOutput(String expectedOutput) {
-        this.expectedOutput = expectedOutput;
+    public void setOutputSize(long outputSize) {
+        this.outputSize = outputSize;
     }
 
     public boolean isSample() {
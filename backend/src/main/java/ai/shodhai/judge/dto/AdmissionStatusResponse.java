@@ -0,0 +1,5 @@
+package ai.shodhai.judge.dto;
+
+public record AdmissionStatusResponse(long admitted, long rejectedSourceSize, long rejectedRateLimit,
+                                      long rejectedQueueFull, int trackedUsers, int trackedContests) {
+}
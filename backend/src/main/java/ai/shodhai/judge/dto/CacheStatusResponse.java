@@ -0,0 +1,4 @@
+package ai.shodhai.judge.dto;
+
+public record CacheStatusResponse(String cache, int entries, long hits, long misses, double hitRate, long stores) {
+}
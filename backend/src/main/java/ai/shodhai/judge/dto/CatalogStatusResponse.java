@@ -0,0 +1,5 @@
+package ai.shodhai.judge.dto;
+
+public record CatalogStatusResponse(int problems, int maxProblems, long hits, long misses, double hitRate,
+                                    long evictions, long invalidations) {
+}
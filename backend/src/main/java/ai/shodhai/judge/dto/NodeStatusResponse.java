@@ -0,0 +1,7 @@
+package ai.shodhai.judge.dto;
+
+import java.time.Instant;
+
+public record NodeStatusResponse(String nodeId, String role, boolean alive, int workers, int busyWorkers,
+                                 long processed, Instant startedAt, Instant lastHeartbeat) {
+}
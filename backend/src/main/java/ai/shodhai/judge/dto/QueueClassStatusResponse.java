@@ -0,0 +1,5 @@
+package ai.shodhai.judge.dto;
+
+public record QueueClassStatusResponse(String queueClass, long depth, double oldestWaitSeconds, long claimed,
+                                       double averageWaitSeconds, double maxWaitSeconds) {
+}
@@ -0,0 +1,6 @@
+package ai.shodhai.judge.dto;
+
+import java.util.List;
+
+public record RuntimeResponse(String id, List<String> aliases, boolean compiled, double timeMultiplier) {
+}
@@ -7,6 +7,7 @@ public record SubmissionRequest(
         @NotBlank(message = "problemId is required") String problemId,
         @NotBlank(message = "username is required") String username,
         @NotBlank(message = "language is required") String language,
-        @NotBlank(message = "code is required") String code
+        @NotBlank(message = "code is required") String code,
+        Boolean sampleOnly
 ) {
 }
@@ -1,4 +1,5 @@
 package ai.shodhai.judge.dto;
 
-public record SubmissionStatusResponse(String status, String verdict, Double score, Double time) {
+public record SubmissionStatusResponse(String status, String verdict, Double score, Double time,
+                                       Double cpuTime, Long memoryKb) {
 }
@@ -0,0 +1,4 @@
+package ai.shodhai.judge.dto;
+
+public record WorkerStatusResponse(int workerId, String state, String currentSubmission, long processed, long failed, double busySeconds) {
+}
@@ -0,0 +1,121 @@
+package ai.shodhai.judge.metrics;
+
+import ai.shodhai.judge.catalog.ProblemCatalog;
+import ai.shodhai.judge.repository.QueueDepth;
+import ai.shodhai.judge.sandbox.ProcessSupervisor;
+import ai.shodhai.judge.service.LiveUpdateService;
+import ai.shodhai.judge.service.QueueClass;
+import ai.shodhai.judge.service.SubmissionProcessingService;
+import ai.shodhai.judge.service.SubmissionResultCache;
+import ai.shodhai.judge.service.SubmissionResultWriter;
+import ai.shodhai.judge.service.SubmissionService;
+import ai.shodhai.judge.storage.ArtifactCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.function.ToDoubleFunction;
+
+@Component
+public class JudgeMeterBinder implements MeterBinder {
+
+    private final SubmissionService submissionService;
+    private final SubmissionProcessingService processingService;
+    private final SubmissionResultWriter resultWriter;
+    private final ProcessSupervisor processSupervisor;
+    private final ProblemCatalog problemCatalog;
+    private final SubmissionResultCache resultCache;
+    private final ArtifactCache artifactCache;
+    private final ObjectProvider<LiveUpdateService> liveUpdateService;
+
+    public JudgeMeterBinder(SubmissionService submissionService,
+                            SubmissionProcessingService processingService,
+                            SubmissionResultWriter resultWriter,
+                            ProcessSupervisor processSupervisor,
+                            ProblemCatalog problemCatalog,
+                            SubmissionResultCache resultCache,
+                            ArtifactCache artifactCache,
+                            ObjectProvider<LiveUpdateService> liveUpdateService) {
+        this.submissionService = submissionService;
+        this.processingService = processingService;
+        this.resultWriter = resultWriter;
+        this.processSupervisor = processSupervisor;
+        this.problemCatalog = problemCatalog;
+        this.resultCache = resultCache;
+        this.artifactCache = artifactCache;
+        this.liveUpdateService = liveUpdateService;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (QueueClass queueClass : QueueClass.values()) {
+            Gauge.builder("judge.queue.depth", this, binder -> binder.queueDepth(queueClass))
+                    .description("Submissions waiting to be claimed")
+                    .tag("class", queueClass.name())
+                    .register(registry);
+        }
+        Gauge.builder("judge.workers", processingService, service -> service.getWorkerSnapshots().size())
+                .description("Judge workers on this node")
+                .register(registry);
+        Gauge.builder("judge.workers.busy", processingService, SubmissionProcessingService::getBusyWorkers)
+                .description("Judge workers currently judging a submission")
+                .register(registry);
+        Gauge.builder("judge.processes.active", processSupervisor, ProcessSupervisor::activeProcesses)
+                .description("Processes currently supervised by the I/O loops")
+                .register(registry);
+        Gauge.builder("judge.db.write.pending", resultWriter, writer -> writer.snapshot().pending())
+                .description("Verdicts waiting for the next batched write")
+                .register(registry);
+        FunctionCounter.builder("judge.db.write.stale", resultWriter, writer -> writer.snapshot().stale())
+                .description("Verdicts discarded because the lease had moved to another node")
+                .register(registry);
+        FunctionCounter.builder("judge.db.write.retried", resultWriter, writer -> writer.snapshot().retried())
+                .description("Verdict writes requeued after the database rejected them")
+                .register(registry);
+        FunctionCounter.builder("judge.db.write.failed", resultWriter, writer -> writer.snapshot().failed())
+                .description("Verdicts dropped after exhausting their write attempts")
+                .register(registry);
+
+        Gauge.builder("judge.catalog.problems", problemCatalog, catalog -> catalog.snapshot().problems())
+                .description("Problems held in the in-memory catalog")
+                .register(registry);
+        catalogCounter(registry, "judge.catalog.hits", catalog -> catalog.snapshot().hits());
+        catalogCounter(registry, "judge.catalog.misses", catalog -> catalog.snapshot().misses());
+        catalogCounter(registry, "judge.catalog.evictions", catalog -> catalog.snapshot().evictions());
+
+        Gauge.builder("judge.cache.entries", resultCache, cache -> cache.snapshot().entries())
+                .tag("cache", "results")
+                .register(registry);
+        cacheCounter(registry, "judge.cache.hits", "results", resultCache, cache -> cache.snapshot().hits());
+        cacheCounter(registry, "judge.cache.misses", "results", resultCache, cache -> cache.snapshot().misses());
+        Gauge.builder("judge.cache.entries", artifactCache, cache -> cache.snapshot().entries())
+                .tag("cache", "artifacts")
+                .register(registry);
+        cacheCounter(registry, "judge.cache.hits", "artifacts", artifactCache, cache -> cache.snapshot().hits());
+        cacheCounter(registry, "judge.cache.misses", "artifacts", artifactCache, cache -> cache.snapshot().misses());
+
+        liveUpdateService.ifAvailable(service -> Gauge.builder("judge.sse.subscribers", service, LiveUpdateService::getSubscriberCount)
+                .description("Open server-sent event streams")
+                .register(registry));
+    }
+
+    private double queueDepth(QueueClass queueClass) {
+        return submissionService.countQueuedByClass().stream()
+                .filter(depth -> QueueClass.of(depth.isSampleOnly()) == queueClass)
+                .mapToLong(QueueDepth::getDepth)
+                .sum();
+    }
+
+    private void catalogCounter(MeterRegistry registry, String name, ToDoubleFunction<ProblemCatalog> value) {
+        FunctionCounter.builder(name, problemCatalog, value).register(registry);
+    }
+
+    private <T> void cacheCounter(MeterRegistry registry, String name, String cacheName, T cache, ToDoubleFunction<T> value) {
+        FunctionCounter.builder(name, cache, value)
+                .tag("cache", cacheName)
+                .register(registry);
+    }
+}
@@ -0,0 +1,105 @@
+package ai.shodhai.judge.metrics;
+
+import ai.shodhai.judge.runtime.LanguageRuntime;
+import ai.shodhai.judge.runtime.RuntimeRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class JudgeMetrics {
+
+    private static final String UNSUPPORTED = "unsupported";
+
+    private final MeterRegistry registry;
+    private final RuntimeRegistry runtimeRegistry;
+    private final Timer checkTimer;
+    private final Timer writeTimer;
+    private final DistributionSummary writeBatchSize;
+
+    public JudgeMetrics(MeterRegistry registry, RuntimeRegistry runtimeRegistry) {
+        this.registry = registry;
+        this.runtimeRegistry = runtimeRegistry;
+        this.checkTimer = Timer.builder("judge.test.check")
+                .description("Time spent finishing the output comparison after a test run")
+                .register(registry);
+        this.writeTimer = Timer.builder("judge.db.write")
+                .description("Time to store one batch of verdicts")
+                .register(registry);
+        this.writeBatchSize = DistributionSummary.builder("judge.db.write.batch")
+                .description("Verdicts stored per batched write")
+                .register(registry);
+    }
+
+    public void recordQueueWait(String queueClass, Duration wait) {
+        Timer.builder("judge.queue.wait")
+                .description("Time a submission waited before a worker claimed it")
+                .tag("class", queueClass)
+                .register(registry)
+                .record(wait);
+    }
+
+    public void recordWorkspaceSetup(LanguageRuntime runtime, long nanos) {
+        Timer.builder("judge.workspace.setup")
+                .description("Time to create a workspace and write the source")
+                .tag("language", runtime.id())
+                .register(registry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordCompile(LanguageRuntime runtime, String outcome, long nanos) {
+        Timer.builder("judge.compile")
+                .description("Time to compile a submission or restore its cached artifact")
+                .tag("language", runtime.id())
+                .tag("outcome", outcome)
+                .register(registry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordTestRun(LanguageRuntime runtime, double elapsedSeconds) {
+        Timer.builder("judge.test.run")
+                .description("Wall-clock time of one supervised test execution")
+                .tag("language", runtime.id())
+                .register(registry)
+                .record(Duration.ofNanos((long) (elapsedSeconds * 1_000_000_000L)));
+    }
+
+    public void recordCheck(long nanos) {
+        checkTimer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordWrite(int batchSize, long nanos) {
+        writeTimer.record(nanos, TimeUnit.NANOSECONDS);
+        writeBatchSize.record(batchSize);
+    }
+
+    public void recordJudged(String language, String verdict, long nanos) {
+        String languageTag = runtimeRegistry.find(language).map(LanguageRuntime::id).orElse(UNSUPPORTED);
+        String verdictTag = verdict == null ? "unknown" : verdict;
+        Timer.builder("judge.submission")
+                .description("Time from claim to verdict for one submission")
+                .tag("language", languageTag)
+                .tag("verdict", verdictTag)
+                .register(registry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+        Counter.builder("judge.verdicts")
+                .description("Judged submissions by verdict and language")
+                .tag("language", languageTag)
+                .tag("verdict", verdictTag)
+                .register(registry)
+                .increment();
+    }
+
+    public void recordAdmission(String outcome) {
+        Counter.builder("judge.admission")
+                .description("Submission intake decisions")
+                .tag("outcome", outcome)
+                .register(registry)
+                .increment();
+    }
+}
@@ -0,0 +1,21 @@
+package ai.shodhai.judge.repository;
+
+import ai.shodhai.judge.domain.JudgeNode;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface JudgeNodeRepository extends JpaRepository<JudgeNode, String> {
+
+    List<JudgeNode> findAllByOrderByIdAsc();
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM JudgeNode n WHERE n.lastHeartbeat < :cutoff")
+    int deleteSilentSince(@Param("cutoff") Instant cutoff);
+}
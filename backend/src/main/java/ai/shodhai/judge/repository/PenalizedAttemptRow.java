@@ -0,0 +1,17 @@
+package ai.shodhai.judge.repository;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public interface PenalizedAttemptRow {
+
+    UUID getSubmissionId();
+
+    String getContestId();
+
+    String getUsername();
+
+    String getProblemId();
+
+    Instant getSubmittedAt();
+}
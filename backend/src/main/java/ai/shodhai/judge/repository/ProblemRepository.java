@@ -2,9 +2,21 @@ package ai.shodhai.judge.repository;
 
 import ai.shodhai.judge.domain.Problem;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface ProblemRepository extends JpaRepository<Problem, String> {
     List<Problem> findByContestIdOrderByIdAsc(String contestId);
+
+    @Query("SELECT DISTINCT p FROM Problem p LEFT JOIN FETCH p.contest LEFT JOIN FETCH p.testCases t WHERE p.id = :id")
+    Optional<Problem> findWithTestCases(@Param("id") String id);
+
+    @Query("SELECT DISTINCT p FROM Problem p LEFT JOIN FETCH p.contest LEFT JOIN FETCH p.testCases t WHERE p.contest.id = :contestId ORDER BY p.id")
+    List<Problem> findWithTestCasesByContestId(@Param("contestId") String contestId);
+
+    @Query("SELECT p.id AS id, p.contest.id AS contestId, p.version AS version FROM Problem p ORDER BY p.id")
+    List<ProblemVersion> findAllVersions();
 }
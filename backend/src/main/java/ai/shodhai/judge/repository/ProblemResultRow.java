@@ -0,0 +1,20 @@
+package ai.shodhai.judge.repository;
+
+import java.time.Instant;
+
+public interface ProblemResultRow {
+
+    String getContestId();
+
+    String getUsername();
+
+    String getProblemId();
+
+    Instant getFirstAcceptedAt();
+
+    long getWrongAttempts();
+
+    double getBestScore();
+
+    Double getFastestTime();
+}
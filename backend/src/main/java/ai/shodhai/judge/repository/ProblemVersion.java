@@ -0,0 +1,10 @@
+package ai.shodhai.judge.repository;
+
+public interface ProblemVersion {
+
+    String getId();
+
+    String getContestId();
+
+    Long getVersion();
+}
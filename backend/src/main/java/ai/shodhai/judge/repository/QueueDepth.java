@@ -0,0 +1,12 @@
+package ai.shodhai.judge.repository;
+
+import java.time.Instant;
+
+public interface QueueDepth {
+
+    boolean isSampleOnly();
+
+    long getDepth();
+
+    Instant getOldestCreatedAt();
+}
@@ -0,0 +1,17 @@
+package ai.shodhai.judge.repository;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public interface QueuedSubmission {
+
+    UUID getId();
+
+    String getContestId();
+
+    Long getUserId();
+
+    boolean isSampleOnly();
+
+    Instant getCreatedAt();
+}
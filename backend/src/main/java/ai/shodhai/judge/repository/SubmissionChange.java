@@ -0,0 +1,37 @@
+package ai.shodhai.judge.repository;
+
+import ai.shodhai.judge.domain.SubmissionStatus;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public interface SubmissionChange {
+
+    UUID getId();
+
+    String getContestId();
+
+    String getProblemId();
+
+    String getUsername();
+
+    SubmissionStatus getStatus();
+
+    String getVerdict();
+
+    Double getScore();
+
+    Double getExecutionTime();
+
+    Double getCpuTime();
+
+    Long getPeakMemoryKb();
+
+    boolean isSampleOnly();
+
+    Instant getCreatedAt();
+
+    Instant getUpdatedAt();
+
+    Long getVersion();
+}
@@ -3,9 +3,12 @@ package ai.shodhai.judge.repository;
 import ai.shodhai.judge.domain.Submission;
 import ai.shodhai.judge.domain.SubmissionStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -19,5 +22,129 @@ public interface SubmissionRepository extends JpaRepository<Submission, UUID> {
 
     Optional<Submission> findFirstById(UUID id);
 
+    @Query("SELECT s.status AS status, s.verdict AS verdict, s.score AS score, s.executionTime AS executionTime, "
+            + "s.cpuTime AS cpuTime, s.peakMemoryKb AS peakMemoryKb, s.version AS version FROM Submission s WHERE s.id = :id")
+    Optional<SubmissionStatusView> findStatusById(@Param("id") UUID id);
+
+    @Query("SELECT s FROM Submission s JOIN FETCH s.user WHERE s.id = :id")
+    Optional<Submission> findForJudging(@Param("id") UUID id);
+
     long countByContestIdAndUserUsernameAndStatus(String contestId, String username, SubmissionStatus status);
+
+    long countByStatus(SubmissionStatus status);
+
+    @Query("SELECT s.contest.id AS contestId, s.user.username AS username, s.problem.id AS problemId, "
+            + "MIN(f.acceptedAt) AS firstAcceptedAt, "
+            + "SUM(CASE WHEN s.status IN :penalized AND (f.acceptedAt IS NULL OR s.createdAt < f.acceptedAt) "
+            + "THEN 1 ELSE 0 END) AS wrongAttempts, "
+            + "MAX(COALESCE(s.score, 0.0)) AS bestScore, "
+            + "MIN(CASE WHEN s.status = :accepted THEN s.executionTime END) AS fastestTime "
+            + "FROM Submission s LEFT JOIN (SELECT a.user.id AS userId, a.problem.id AS problemId, MIN(a.createdAt) AS acceptedAt "
+            + "FROM Submission a WHERE a.contest.id = :contestId AND a.status = :accepted AND a.sampleOnly = false "
+            + "GROUP BY a.user.id, a.problem.id) f ON f.userId = s.user.id AND f.problemId = s.problem.id "
+            + "WHERE s.contest.id = :contestId AND s.sampleOnly = false GROUP BY s.contest.id, s.user.username, s.problem.id")
+    List<ProblemResultRow> summarizeProblemResults(@Param("contestId") String contestId,
+                                                   @Param("accepted") SubmissionStatus accepted,
+                                                   @Param("penalized") Collection<SubmissionStatus> penalized);
+
+    @Query("SELECT s.id AS submissionId, s.contest.id AS contestId, s.user.username AS username, s.problem.id AS problemId, "
+            + "s.createdAt AS submittedAt FROM Submission s LEFT JOIN (SELECT a.user.id AS userId, a.problem.id AS problemId, "
+            + "MIN(a.createdAt) AS acceptedAt FROM Submission a WHERE a.contest.id = :contestId AND a.status = :accepted "
+            + "AND a.sampleOnly = false GROUP BY a.user.id, a.problem.id) f ON f.userId = s.user.id AND f.problemId = s.problem.id "
+            + "WHERE s.contest.id = :contestId AND s.sampleOnly = false AND s.status IN :penalized "
+            + "AND (f.acceptedAt IS NULL OR s.createdAt < f.acceptedAt)")
+    List<PenalizedAttemptRow> findPenalizedAttempts(@Param("contestId") String contestId,
+                                                    @Param("accepted") SubmissionStatus accepted,
+                                                    @Param("penalized") Collection<SubmissionStatus> penalized);
+
+    @Query("SELECT q.id AS id, q.contestId AS contestId, q.userId AS userId, q.sampleOnly AS sampleOnly, q.createdAt AS createdAt "
+            + "FROM (SELECT b.id AS id, b.contestId AS contestId, b.userId AS userId, b.sampleOnly AS sampleOnly, b.createdAt AS createdAt, "
+            + "ROW_NUMBER() OVER (PARTITION BY b.userId ORDER BY b.createdAt) AS userPosition "
+            + "FROM (SELECT s.id AS id, s.contest.id AS contestId, s.user.id AS userId, s.sampleOnly AS sampleOnly, s.createdAt AS createdAt "
+            + "FROM Submission s WHERE s.status = :status ORDER BY s.createdAt LIMIT :scan) b) q "
+            + "WHERE q.userPosition <= :perUser ORDER BY q.createdAt LIMIT :window")
+    List<QueuedSubmission> findClaimCandidates(@Param("status") SubmissionStatus status,
+                                               @Param("scan") int scan,
+                                               @Param("window") int window,
+                                               @Param("perUser") int perUser);
+
+    @Query("SELECT s.id AS id, s.contest.id AS contestId, s.problem.id AS problemId, s.user.username AS username, "
+            + "s.status AS status, s.verdict AS verdict, s.score AS score, s.executionTime AS executionTime, "
+            + "s.cpuTime AS cpuTime, s.peakMemoryKb AS peakMemoryKb, s.sampleOnly AS sampleOnly, "
+            + "s.createdAt AS createdAt, s.updatedAt AS updatedAt, s.version AS version "
+            + "FROM Submission s WHERE s.updatedAt > :since OR (s.updatedAt = :since AND s.id > :afterId) "
+            + "ORDER BY s.updatedAt, s.id LIMIT :limit")
+    List<SubmissionChange> findChangedSince(@Param("since") Instant since, @Param("afterId") UUID afterId, @Param("limit") int limit);
+
+    @Query("SELECT s.sampleOnly AS sampleOnly, COUNT(s) AS depth, MIN(s.createdAt) AS oldestCreatedAt "
+            + "FROM Submission s WHERE s.status = :status GROUP BY s.sampleOnly")
+    List<QueueDepth> countQueuedByClass(@Param("status") SubmissionStatus status);
+
+    @Modifying
+    @Query("UPDATE Submission s SET s.status = :running, s.verdict = 'Running', s.leaseOwner = :owner, s.leaseExpiresAt = :expiresAt, "
+            + "s.attempts = s.attempts + 1, s.updatedAt = :now, s.version = s.version + 1 WHERE s.id IN :ids AND s.status = :queued")
+    int claim(@Param("ids") Collection<UUID> ids,
+              @Param("owner") String owner,
+              @Param("expiresAt") Instant expiresAt,
+              @Param("now") Instant now,
+              @Param("queued") SubmissionStatus queued,
+              @Param("running") SubmissionStatus running);
+
+    @Query("SELECT s.id FROM Submission s WHERE s.id IN :ids AND s.leaseOwner = :owner")
+    List<UUID> findIdsLeasedBy(@Param("ids") Collection<UUID> ids, @Param("owner") String owner);
+
+    @Modifying
+    @Query("UPDATE Submission s SET s.leaseExpiresAt = :expiresAt WHERE s.id IN :ids AND s.leaseOwner = :owner")
+    int renewLeases(@Param("ids") Collection<UUID> ids, @Param("owner") String owner, @Param("expiresAt") Instant expiresAt);
+
+    @Modifying
+    @Query("UPDATE Submission s SET s.status = :queued, s.verdict = 'Pending', s.leaseOwner = NULL, s.leaseExpiresAt = NULL, "
+            + "s.attempts = s.attempts - 1, s.updatedAt = :now, s.version = s.version + 1 WHERE s.id IN :ids AND s.leaseOwner = :owner")
+    int releaseLeases(@Param("ids") Collection<UUID> ids,
+                      @Param("owner") String owner,
+                      @Param("now") Instant now,
+                      @Param("queued") SubmissionStatus queued);
+
+    @Modifying
+    @Query("UPDATE Submission s SET s.status = :queued, s.verdict = 'Pending', s.leaseOwner = NULL, s.leaseExpiresAt = NULL, "
+            + "s.updatedAt = :now, s.version = s.version + 1 WHERE s.id = :id AND s.leaseOwner = :owner AND s.attempts < :maxAttempts")
+    int retryLease(@Param("id") UUID id,
+                   @Param("owner") String owner,
+                   @Param("now") Instant now,
+                   @Param("queued") SubmissionStatus queued,
+                   @Param("maxAttempts") int maxAttempts);
+
+    @Modifying
+    @Query("UPDATE Submission s SET s.status = :failed, s.verdict = :verdict, s.leaseOwner = NULL, s.leaseExpiresAt = NULL, "
+            + "s.updatedAt = :now, s.version = s.version + 1 WHERE s.id = :id AND s.leaseOwner = :owner")
+    int failLease(@Param("id") UUID id,
+                  @Param("owner") String owner,
+                  @Param("now") Instant now,
+                  @Param("failed") SubmissionStatus failed,
+                  @Param("verdict") String verdict);
+
+    @Query("SELECT s.id FROM Submission s WHERE s.status = :running AND (s.leaseExpiresAt IS NULL OR s.leaseExpiresAt < :now) "
+            + "AND s.attempts >= :maxAttempts")
+    List<UUID> findExhaustedLeases(@Param("now") Instant now,
+                                   @Param("running") SubmissionStatus running,
+                                   @Param("maxAttempts") int maxAttempts);
+
+    @Modifying
+    @Query("UPDATE Submission s SET s.status = :failed, s.verdict = :verdict, s.leaseOwner = NULL, s.leaseExpiresAt = NULL, "
+            + "s.updatedAt = :now, s.version = s.version + 1 WHERE s.id = :id AND s.status = :running "
+            + "AND (s.leaseExpiresAt IS NULL OR s.leaseExpiresAt < :now)")
+    int failExpiredLease(@Param("id") UUID id,
+                         @Param("now") Instant now,
+                         @Param("running") SubmissionStatus running,
+                         @Param("failed") SubmissionStatus failed,
+                         @Param("verdict") String verdict);
+
+    @Modifying
+    @Query("UPDATE Submission s SET s.status = :queued, s.verdict = 'Pending', s.leaseOwner = NULL, s.leaseExpiresAt = NULL, "
+            + "s.updatedAt = :now, s.version = s.version + 1 WHERE s.status = :running AND (s.leaseExpiresAt IS NULL OR s.leaseExpiresAt < :now) "
+            + "AND s.attempts < :maxAttempts")
+    int requeueExpiredLeases(@Param("now") Instant now,
+                             @Param("queued") SubmissionStatus queued,
+                             @Param("running") SubmissionStatus running,
+                             @Param("maxAttempts") int maxAttempts);
 }
@@ -0,0 +1,20 @@
+package ai.shodhai.judge.repository;
+
+import ai.shodhai.judge.domain.SubmissionStatus;
+
+public interface SubmissionStatusView {
+
+    SubmissionStatus getStatus();
+
+    String getVerdict();
+
+    Double getScore();
+
+    Double getExecutionTime();
+
+    Double getCpuTime();
+
+    Long getPeakMemoryKb();
+
+    Long getVersion();
+}
@@ -0,0 +1,17 @@
+package ai.shodhai.judge.runtime;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+public record LanguageRuntime(String id, List<String> aliases, String sourceFile, List<String> compileCommand,
+                              List<String> runCommand, List<String> containerRunCommand, double timeMultiplier,
+                              Path cacheDirectory, Map<String, String> environment,
+                              Map<String, String> containerEnvironment) {
+
+    public static final String CONTAINER_CACHE_DIRECTORY = "/tmp/judge-cache";
+
+    public boolean requiresCompilation() {
+        return !compileCommand.isEmpty();
+    }
+}
@@ -0,0 +1,167 @@
+package ai.shodhai.judge.runtime;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.constructor.SafeConstructor;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+@Component
+public class RuntimeRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(RuntimeRegistry.class);
+    private static final String CACHE_PLACEHOLDER = "{cache}";
+
+    private final Resource location;
+    private final Path cacheRoot;
+    private final Map<String, LanguageRuntime> runtimes = new LinkedHashMap<>();
+    private final Map<String, LanguageRuntime> byName = new LinkedHashMap<>();
+
+    public RuntimeRegistry(@Value("${judge.runtimes.location:classpath:runtimes.yml}") Resource location,
+                           @Value("${judge.runtimes.cache-root:data/runtime-cache}") Path cacheRoot) {
+        this.location = location;
+        this.cacheRoot = cacheRoot.toAbsolutePath();
+    }
+
+    @PostConstruct
+    public void load() {
+        Map<String, Object> document;
+        try (InputStream in = location.getInputStream()) {
+            document = new Yaml(new SafeConstructor(new LoaderOptions())).load(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read runtime registry " + location, e);
+        }
+        List<Map<String, Object>> entries = list(document, "runtimes", Map.class);
+        for (Map<String, Object> entry : entries) {
+            LanguageRuntime runtime = parse(entry);
+            register(runtime.id(), runtime);
+            runtime.aliases().forEach(alias -> register(alias, runtime));
+            runtimes.put(runtime.id(), runtime);
+        }
+        log.info("Loaded {} language runtimes from {}: {}", runtimes.size(), location.getDescription(), runtimes.keySet());
+    }
+
+    public Optional<LanguageRuntime> find(String language) {
+        if (language == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(byName.get(language.trim().toLowerCase(Locale.ROOT)));
+    }
+
+    public Collection<LanguageRuntime> all() {
+        return runtimes.values();
+    }
+
+    public String toolchainIdentity(LanguageRuntime runtime) {
+        if (!runtime.requiresCompilation()) {
+            return "none";
+        }
+        String compiler = runtime.compileCommand().get(0);
+        String searchPath = runtime.environment().getOrDefault("PATH", Optional.ofNullable(System.getenv("PATH")).orElse(""));
+        for (String directory : searchPath.split(File.pathSeparator)) {
+            Path candidate = Path.of(directory.isEmpty() ? "." : directory).resolve(compiler);
+            if (!Files.isRegularFile(candidate) || !Files.isExecutable(candidate)) {
+                continue;
+            }
+            try {
+                Path binary = candidate.toRealPath();
+                BasicFileAttributes attributes = Files.readAttributes(binary, BasicFileAttributes.class);
+                return binary + ":" + attributes.size() + ":" + attributes.lastModifiedTime().toMillis();
+            } catch (IOException e) {
+                log.debug("Cannot inspect compiler {}: {}", candidate, e.getMessage());
+            }
+        }
+        return compiler;
+    }
+
+    private void register(String name, LanguageRuntime runtime) {
+        LanguageRuntime previous = byName.putIfAbsent(name.toLowerCase(Locale.ROOT), runtime);
+        if (previous != null) {
+            throw new IllegalStateException("Language name " + name + " is used by both " + previous.id() + " and " + runtime.id());
+        }
+    }
+
+    private LanguageRuntime parse(Map<String, Object> entry) {
+        String id = required(entry, "id");
+        Path cacheDirectory = null;
+        Object cache = entry.get("cache-directory");
+        if (cache != null) {
+            cacheDirectory = cacheRoot.resolve(cache.toString()).normalize();
+            try {
+                Files.createDirectories(cacheDirectory);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to create cache directory for runtime " + id, e);
+            }
+        }
+        Map<String, String> environment = new LinkedHashMap<>();
+        Map<String, String> containerEnvironment = new LinkedHashMap<>();
+        Object env = entry.get("environment");
+        if (env instanceof Map<?, ?> variables) {
+            for (Map.Entry<?, ?> variable : variables.entrySet()) {
+                String value = variable.getValue().toString();
+                if (value.contains(CACHE_PLACEHOLDER) && cacheDirectory == null) {
+                    throw new IllegalStateException("Runtime " + id + " references " + CACHE_PLACEHOLDER + " without a cache-directory");
+                }
+                String name = variable.getKey().toString();
+                environment.put(name, cacheDirectory == null ? value : value.replace(CACHE_PLACEHOLDER, cacheDirectory.toString()));
+                containerEnvironment.put(name, value.replace(CACHE_PLACEHOLDER, LanguageRuntime.CONTAINER_CACHE_DIRECTORY));
+            }
+        }
+        List<String> run = list(entry, "run", String.class);
+        if (run.isEmpty()) {
+            throw new IllegalStateException("Runtime " + id + " has no run command");
+        }
+        List<String> containerRun = list(entry, "container-run", String.class);
+        Object multiplier = entry.getOrDefault("time-multiplier", 1.0);
+        return new LanguageRuntime(
+                id.toLowerCase(Locale.ROOT),
+                list(entry, "aliases", String.class),
+                required(entry, "source-file"),
+                list(entry, "compile", String.class),
+                run,
+                containerRun.isEmpty() ? run : containerRun,
+                ((Number) multiplier).doubleValue(),
+                cacheDirectory,
+                Map.copyOf(environment),
+                Map.copyOf(containerEnvironment));
+    }
+
+    private String required(Map<String, Object> entry, String key) {
+        Object value = entry.get(key);
+        if (value == null || value.toString().isBlank()) {
+            throw new IllegalStateException("Runtime entry " + entry + " is missing " + key);
+        }
+        return value.toString();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> List<T> list(Map<String, Object> entry, String key, Class<?> type) {
+        Object value = entry == null ? null : entry.get(key);
+        if (value == null) {
+            return List.of();
+        }
+        if (!(value instanceof List<?> items) || items.stream().anyMatch(item -> !type.isInstance(item))) {
+            throw new IllegalStateException("Runtime registry field " + key + " must be a list of " + type.getSimpleName());
+        }
+        return List.copyOf(new ArrayList<>((List<T>) items));
+    }
+}
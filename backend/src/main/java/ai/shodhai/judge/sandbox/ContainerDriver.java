@@ -0,0 +1,27 @@
+package ai.shodhai.judge.sandbox;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+public interface ContainerDriver {
+
+    String imageId(String image) throws IOException, InterruptedException;
+
+    void start(String name, String image, Path workspace) throws IOException, InterruptedException;
+
+    List<String> execCommand(String name, Path workspace, Map<String, String> environment, List<String> command);
+
+    void applyLimits(String name, ResourceLimits limits) throws IOException, InterruptedException;
+
+    void seal(String name) throws IOException, InterruptedException;
+
+    boolean isHealthy(String name);
+
+    boolean isAvailable();
+
+    void reset(String name, Path workspace) throws IOException, InterruptedException;
+
+    void remove(String name);
+}
@@ -0,0 +1,59 @@
+package ai.shodhai.judge.sandbox;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public final class ContainerLauncher {
+
+    private static final String USAGE_TEXT = "judge-usage";
+    private static final Pattern USAGE_LINE = Pattern.compile("(?:^|\\n)" + USAGE_TEXT + " ([\\d.]+) (\\d+)\\n$");
+    private static final String SCRIPT = String.join("\n",
+            "import os, resource, sys",
+            "fsize, cpu = int(sys.argv[1]), int(sys.argv[2])",
+            "resource.setrlimit(resource.RLIMIT_CORE, (0, 0))",
+            "resource.setrlimit(resource.RLIMIT_FSIZE, (fsize, fsize))",
+            "if cpu > 0:",
+            "    resource.setrlimit(resource.RLIMIT_CPU, (cpu, cpu + 1))",
+            "sys.stderr.write('" + LaunchMarker.TEXT + "\\n')",
+            "sys.stderr.flush()",
+            "pid = os.fork()",
+            "if pid == 0:",
+            "    try:",
+            "        os.execvp(sys.argv[3], sys.argv[3:])",
+            "    except OSError as error:",
+            "        os.write(2, ('%s: %s\\n' % (sys.argv[3], error.strerror)).encode())",
+            "    os._exit(127)",
+            "_, status, usage = os.wait4(pid, 0)",
+            "sys.stderr.write('" + USAGE_TEXT + " %.3f %d\\n' % (usage.ru_utime + usage.ru_stime, usage.ru_maxrss))",
+            "sys.exit(os.WEXITSTATUS(status) if os.WIFEXITED(status) else 128 + os.WTERMSIG(status))");
+
+    private ContainerLauncher() {
+    }
+
+    public static List<String> wrap(List<String> command, ResourceLimits limits) {
+        long cpuSeconds = limits.cpuTime() != null ? (limits.cpuTime().toMillis() + 999) / 1000 + 1 : 0;
+        List<String> wrapped = new ArrayList<>(List.of("python3", "-S", "-E", "-c", SCRIPT,
+                Long.toString(limits.outputBytes() + 1), Long.toString(cpuSeconds)));
+        wrapped.addAll(command);
+        return wrapped;
+    }
+
+    public static Optional<Usage> usageIn(String stderr) {
+        Matcher matcher = USAGE_LINE.matcher(stderr);
+        if (!matcher.find()) {
+            return Optional.empty();
+        }
+        return Optional.of(new Usage(Double.parseDouble(matcher.group(1)), Long.parseLong(matcher.group(2))));
+    }
+
+    public static String strip(String stderr) {
+        Matcher matcher = USAGE_LINE.matcher(stderr);
+        return matcher.find() ? stderr.substring(0, matcher.start() == 0 ? 0 : matcher.start() + 1) : stderr;
+    }
+
+    public record Usage(double cpuSeconds, long peakMemoryKb) {
+    }
+}
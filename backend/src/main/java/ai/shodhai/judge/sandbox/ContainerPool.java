@@ -0,0 +1,253 @@
+package ai.shodhai.judge.sandbox;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+public class ContainerPool {
+
+    private static final Logger log = LoggerFactory.getLogger(ContainerPool.class);
+
+    private final ContainerDriver driver;
+    private final boolean dockerEnabled;
+    private final boolean enabled;
+    private final String image;
+    private final List<String> languages;
+    private final int sizePerLanguage;
+    private final int maxUses;
+    private final long acquireTimeoutMillis;
+    private final Path workspaceRoot;
+    private final Map<String, LanguagePool> pools = new ConcurrentHashMap<>();
+    private final Map<String, PooledContainer> all = new ConcurrentHashMap<>();
+    private volatile String imageId;
+    private final ExecutorService replenisher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "container-pool");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ContainerPool(ContainerDriver driver,
+                         @Value("${judge.docker.enabled:false}") boolean dockerEnabled,
+                         @Value("${judge.docker.pool.enabled:false}") boolean poolEnabled,
+                         @Value("${judge.docker.image:shodhai/judge:latest}") String image,
+                         @Value("${judge.docker.pool.languages:python,javascript}") List<String> languages,
+                         @Value("${judge.docker.pool.size:2}") int sizePerLanguage,
+                         @Value("${judge.docker.pool.max-uses:50}") int maxUses,
+                         @Value("${judge.docker.pool.acquire-timeout-ms:2000}") long acquireTimeoutMillis,
+                         @Value("${judge.docker.pool.workspace-root:${java.io.tmpdir}/judge-pool}") Path workspaceRoot) {
+        this.driver = driver;
+        this.dockerEnabled = dockerEnabled;
+        this.enabled = dockerEnabled && poolEnabled;
+        this.image = image;
+        this.languages = languages.stream().map(language -> language.trim().toLowerCase(Locale.ROOT)).toList();
+        this.sizePerLanguage = sizePerLanguage;
+        this.maxUses = maxUses;
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+        this.workspaceRoot = workspaceRoot;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        for (String language : languages) {
+            LanguagePool pool = new LanguagePool(language);
+            pools.put(language, pool);
+            for (int i = 0; i < sizePerLanguage; i++) {
+                scheduleLaunch(pool);
+            }
+        }
+        log.info("Warming {} sandbox containers per language for {}", sizePerLanguage, languages);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        replenisher.shutdownNow();
+        all.values().forEach(this::destroy);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isDockerAvailable() {
+        return driver.isAvailable();
+    }
+
+    public String imageId() {
+        String resolved = imageId;
+        return resolved != null ? resolved : resolveImageId();
+    }
+
+    public Optional<PooledContainer> acquire(String language) {
+        LanguagePool pool = pools.get(language.toLowerCase(Locale.ROOT));
+        if (!enabled || pool == null || pool.live.get() == 0) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.ofNullable(pool.idle.poll(acquireTimeoutMillis, TimeUnit.MILLISECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        }
+    }
+
+    public void release(PooledContainer container) {
+        boolean recycle = container.isTainted() || container.recordUse() >= maxUses;
+        if (!recycle) {
+            try {
+                driver.reset(container.getName(), container.getWorkspace());
+                container.unseal();
+            } catch (IOException e) {
+                log.warn("Failed to reset container {}: {}", container.getName(), e.getMessage());
+                recycle = true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                recycle = true;
+            }
+        }
+        if (recycle) {
+            recycle(container);
+        } else {
+            pools.get(container.getLanguage()).idle.offer(container);
+        }
+    }
+
+    public Map<String, Integer> getIdleCounts() {
+        Map<String, Integer> counts = new ConcurrentHashMap<>();
+        pools.forEach((language, pool) -> counts.put(language, pool.idle.size()));
+        return counts;
+    }
+
+    @Scheduled(fixedDelayString = "${judge.docker.pool.health-check-interval-ms:30000}")
+    public void checkHealth() {
+        if (dockerEnabled) {
+            resolveImageId();
+        }
+        if (!enabled) {
+            return;
+        }
+        for (LanguagePool pool : pools.values()) {
+            List<PooledContainer> checked = new ArrayList<>();
+            pool.idle.drainTo(checked);
+            for (PooledContainer container : checked) {
+                if (driver.isHealthy(container.getName())) {
+                    pool.idle.offer(container);
+                } else {
+                    log.warn("Sandbox container {} failed its health check, replacing it", container.getName());
+                    recycle(container);
+                }
+            }
+            while (pool.live.get() + pool.pending.get() < sizePerLanguage) {
+                scheduleLaunch(pool);
+            }
+        }
+    }
+
+    private String resolveImageId() {
+        try {
+            imageId = driver.imageId(image);
+            return imageId;
+        } catch (IOException e) {
+            log.debug("Cannot resolve image {}: {}", image, e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (imageId == null) {
+            imageId = image;
+        }
+        return imageId;
+    }
+
+    private void recycle(PooledContainer container) {
+        destroy(container);
+        scheduleLaunch(pools.get(container.getLanguage()));
+    }
+
+    private void scheduleLaunch(LanguagePool pool) {
+        if (replenisher.isShutdown()) {
+            return;
+        }
+        pool.pending.incrementAndGet();
+        replenisher.submit(() -> {
+            try {
+                launch(pool);
+            } finally {
+                pool.pending.decrementAndGet();
+            }
+        });
+    }
+
+    private void launch(LanguagePool pool) {
+        String name = "judge-" + pool.language + "-" + UUID.randomUUID().toString().substring(0, 8);
+        Path workspace = workspaceRoot.resolve(name);
+        try {
+            Files.createDirectories(workspace);
+            openPermissions(workspace);
+            String launchImage = imageId();
+            driver.start(name, launchImage, workspace);
+            PooledContainer container = new PooledContainer(name, pool.language, workspace, launchImage, driver);
+            all.put(name, container);
+            pool.live.incrementAndGet();
+            pool.idle.offer(container);
+        } catch (IOException e) {
+            log.warn("Failed to start sandbox container for {}: {}", pool.language, e.getMessage());
+            driver.remove(name);
+            FileSystemUtils.deleteRecursively(workspace.toFile());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void openPermissions(Path workspace) throws IOException {
+        try {
+            Files.setPosixFilePermissions(workspace, PosixFilePermissions.fromString("rwxrwxrwx"));
+        } catch (UnsupportedOperationException e) {
+            log.debug("Cannot set POSIX permissions on {}", workspace);
+        }
+    }
+
+    private void destroy(PooledContainer container) {
+        if (all.remove(container.getName()) != null) {
+            pools.get(container.getLanguage()).live.decrementAndGet();
+        }
+        driver.remove(container.getName());
+        FileSystemUtils.deleteRecursively(container.getWorkspace().toFile());
+    }
+
+    private static class LanguagePool {
+        private final String language;
+        private final BlockingQueue<PooledContainer> idle = new LinkedBlockingQueue<>();
+        private final AtomicInteger live = new AtomicInteger();
+        private final AtomicInteger pending = new AtomicInteger();
+
+        private LanguagePool(String language) {
+            this.language = language;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package ai.shodhai.judge.sandbox;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@ConditionalOnProperty(name = "judge.docker.pool.driver", havingValue = "docker", matchIfMissing = true)
+public class DockerCliDriver implements ContainerDriver {
+
+    private static final Logger log = LoggerFactory.getLogger(DockerCliDriver.class);
+    private static final long COMMAND_TIMEOUT_SECONDS = 30;
+    private static final String RESET_SCRIPT = "kill -9 -1 2>/dev/null; "
+            + "for attempt in 1 2 3 4 5 6 7 8 9 10; do survivors=0; "
+            + "for entry in /proc/[0-9]*; do case ${entry#/proc/} in 1|$$) ;; *) survivors=$((survivors + 1)) ;; esac; done; "
+            + "[ $survivors -eq 0 ] && break; sleep 0.1; done; "
+            + "[ $survivors -eq 0 ] || { echo \"$survivors processes survived\"; exit 1; }; "
+            + "find /workspace /tmp -mindepth 1 -delete && chown 0:0 /workspace && chmod 0777 /workspace";
+    private static final String SEAL_SCRIPT = "chown -R 0:0 /workspace && chmod -R a-w,a+rX /workspace";
+
+    private final String user;
+    private final long memoryKb;
+    private final int maxProcesses;
+
+    public DockerCliDriver(@Value("${judge.docker.pool.user:65534:65534}") String user,
+                           @Value("${judge.limits.memory-mb:256}") long memoryMb,
+                           @Value("${judge.limits.max-processes:64}") int maxProcesses) {
+        this.user = user;
+        this.memoryKb = memoryMb * 1024;
+        this.maxProcesses = maxProcesses;
+    }
+
+    @Override
+    public String imageId(String image) throws IOException, InterruptedException {
+        return run(List.of("docker", "image", "inspect", "--format", "{{.Id}}", image));
+    }
+
+    @Override
+    public void start(String name, String image, Path workspace) throws IOException, InterruptedException {
+        run(List.of(
+                "docker", "run", "-d",
+                "--name", name,
+                "--network", "none",
+                "--user", user,
+                "--cap-drop", "ALL",
+                "--cap-add", "CHOWN",
+                "--cap-add", "DAC_OVERRIDE",
+                "--cap-add", "FOWNER",
+                "--cap-add", "KILL",
+                "--security-opt", "no-new-privileges",
+                "-v", workspace.toAbsolutePath() + ":/workspace",
+                "--memory", memoryKb + "k",
+                "--memory-swap", memoryKb + "k",
+                "--pids-limit", Integer.toString(maxProcesses),
+                "--cpus", "1",
+                image,
+                "sleep", "infinity"
+        ));
+    }
+
+    @Override
+    public List<String> execCommand(String name, Path workspace, Map<String, String> environment, List<String> command) {
+        List<String> exec = new ArrayList<>(List.of("docker", "exec", "-i", "-w", "/workspace"));
+        environment.forEach((variable, value) -> exec.addAll(List.of("-e", variable + "=" + value)));
+        exec.add(name);
+        exec.addAll(command);
+        return exec;
+    }
+
+    @Override
+    public void applyLimits(String name, ResourceLimits limits) throws IOException, InterruptedException {
+        run(List.of(
+                "docker", "update",
+                "--memory", limits.memoryKb() + "k",
+                "--memory-swap", limits.memoryKb() + "k",
+                "--pids-limit", Integer.toString(limits.maxProcesses()),
+                name
+        ));
+    }
+
+    @Override
+    public void seal(String name) throws IOException, InterruptedException {
+        run(List.of("docker", "exec", "-u", "0", name, "sh", "-c", SEAL_SCRIPT));
+    }
+
+    @Override
+    public boolean isHealthy(String name) {
+        try {
+            return "true".equals(run(List.of("docker", "inspect", "-f", "{{.State.Running}}", name)));
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @Override
+    public boolean isAvailable() {
+        try {
+            run(List.of("docker", "version", "--format", "{{.Server.Version}}"));
+            return true;
+        } catch (IOException e) {
+            log.warn("Docker daemon is not reachable: {}", e.getMessage());
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @Override
+    public void reset(String name, Path workspace) throws IOException, InterruptedException {
+        run(List.of("docker", "exec", "-u", "0", name, "sh", "-c", RESET_SCRIPT));
+    }
+
+    @Override
+    public void remove(String name) {
+        try {
+            run(List.of("docker", "rm", "-f", name));
+        } catch (IOException e) {
+            log.warn("Failed to remove container {}: {}", name, e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private String run(List<String> command) throws IOException, InterruptedException {
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        boolean finished = process.waitFor(COMMAND_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        if (!finished) {
+            process.destroyForcibly();
+            throw new IOException("Command timed out: " + command);
+        }
+        String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8).trim();
+        if (process.exitValue() != 0) {
+            throw new IOException("Command " + command + " failed with exit code " + process.exitValue() + ": " + output);
+        }
+        return output;
+    }
+}
@@ -0,0 +1,30 @@
+package ai.shodhai.judge.sandbox;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+public final class LaunchMarker {
+
+    static final String TEXT = "judge-sandbox-ready";
+    private static final String LINE = TEXT + "\n";
+
+    public static final String SHELL_STEP = "printf '%s\\n' " + TEXT + " >&2";
+
+    private LaunchMarker() {
+    }
+
+    public static boolean presentIn(Path stderr) throws IOException {
+        byte[] expected = LINE.getBytes(StandardCharsets.UTF_8);
+        try (InputStream in = Files.newInputStream(stderr)) {
+            return Arrays.equals(in.readNBytes(expected.length), expected);
+        }
+    }
+
+    public static String strip(String stderr) {
+        return stderr.startsWith(LINE) ? stderr.substring(LINE.length()) : stderr;
+    }
+}
@@ -0,0 +1,79 @@
+package ai.shodhai.judge.sandbox;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+@Component
+@ConditionalOnProperty(name = "judge.docker.pool.driver", havingValue = "stub")
+public class LocalStubDriver implements ContainerDriver {
+
+    private final Set<String> containers = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public String imageId(String image) {
+        return image;
+    }
+
+    @Override
+    public void start(String name, String image, Path workspace) throws IOException {
+        Files.createDirectories(workspace);
+        containers.add(name);
+    }
+
+    @Override
+    public List<String> execCommand(String name, Path workspace, Map<String, String> environment, List<String> command) {
+        String root = workspace.toAbsolutePath().toString();
+        List<String> exec = new ArrayList<>();
+        if (!environment.isEmpty()) {
+            exec.add("env");
+            environment.forEach((variable, value) -> exec.add(variable + "=" + value));
+        }
+        command.stream()
+                .map(argument -> argument.startsWith("/workspace") ? root + argument.substring("/workspace".length()) : argument)
+                .forEach(exec::add);
+        return exec;
+    }
+
+    @Override
+    public void applyLimits(String name, ResourceLimits limits) {
+    }
+
+    @Override
+    public void seal(String name) {
+    }
+
+    @Override
+    public boolean isHealthy(String name) {
+        return containers.contains(name);
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return true;
+    }
+
+    @Override
+    public void reset(String name, Path workspace) throws IOException {
+        try (Stream<Path> entries = Files.list(workspace)) {
+            for (Path entry : entries.toList()) {
+                FileSystemUtils.deleteRecursively(entry);
+            }
+        }
+    }
+
+    @Override
+    public void remove(String name) {
+        containers.remove(name);
+    }
+}
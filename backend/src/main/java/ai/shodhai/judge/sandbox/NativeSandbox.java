@@ -0,0 +1,187 @@
+package ai.shodhai.judge.sandbox;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+@Component
+public class NativeSandbox {
+
+    private static final Logger log = LoggerFactory.getLogger(NativeSandbox.class);
+    private static final Set<String> CONTROLLERS = Set.of("cpu", "memory", "pids");
+    private static final long CPU_PERIOD_MICROS = 100_000;
+    private static final List<String> DEVICES = List.of("null", "zero", "random", "urandom");
+
+    private final boolean enabled;
+    private final Path root;
+    private final double cpus;
+    private final int maxOpenFiles;
+    private final boolean namespaces;
+    private final List<Path> readOnlyPaths;
+    private volatile boolean available;
+    private volatile boolean prlimitAvailable;
+
+    public NativeSandbox(@Value("${judge.sandbox.native.enabled:false}") boolean enabled,
+                         @Value("${judge.sandbox.native.cgroup-root:/sys/fs/cgroup/judge}") Path root,
+                         @Value("${judge.sandbox.native.cpus:1}") double cpus,
+                         @Value("${judge.sandbox.native.max-open-files:64}") int maxOpenFiles,
+                         @Value("${judge.sandbox.native.namespaces:true}") boolean namespaces,
+                         @Value("${judge.sandbox.native.read-only-paths:/bin,/etc,/lib,/lib32,/lib64,/opt,/sbin,/usr}") List<String> readOnlyPaths) {
+        this.enabled = enabled;
+        this.root = root;
+        this.cpus = cpus;
+        this.maxOpenFiles = maxOpenFiles;
+        this.namespaces = namespaces;
+        this.readOnlyPaths = readOnlyPaths.stream().map(Path::of).toList();
+    }
+
+    @PostConstruct
+    public void start() {
+        prlimitAvailable = onPath("prlimit");
+        if (!prlimitAvailable) {
+            log.warn("prlimit not found, output size is only checked after the program writes it");
+        }
+        if (!enabled) {
+            return;
+        }
+        try {
+            Path parent = root.getParent();
+            if (parent == null || !Files.exists(parent.resolve("cgroup.controllers"))) {
+                throw new IOException(parent + " is not a cgroup v2 hierarchy");
+            }
+            enableControllers(parent);
+            Files.createDirectories(root);
+            enableControllers(root);
+            available = true;
+            log.info("Native sandbox using cgroup {}", root);
+        } catch (IOException e) {
+            log.warn("Native sandbox unavailable, running programs without kernel-enforced limits: {}", e.getMessage());
+        }
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    public List<String> limitFileSize(List<String> command, ResourceLimits limits) {
+        if (!prlimitAvailable) {
+            return command;
+        }
+        List<String> limited = new ArrayList<>(List.of("prlimit", "--core=0", "--fsize=" + (limits.outputBytes() + 1), "--"));
+        limited.addAll(command);
+        return limited;
+    }
+
+    public SandboxCell create(ResourceLimits limits, Path workspace, Path writable) throws IOException {
+        Path cgroup = Files.createDirectory(root.resolve("run-" + UUID.randomUUID()));
+        Path filesystem = null;
+        try {
+            write(cgroup, "cpu.max", Math.round(cpus * CPU_PERIOD_MICROS) + " " + CPU_PERIOD_MICROS);
+            write(cgroup, "memory.max", limits.memoryKb() > 0 ? Long.toString(limits.memoryKb() * 1024) : "max");
+            if (Files.exists(cgroup.resolve("memory.swap.max"))) {
+                write(cgroup, "memory.swap.max", "0");
+            }
+            write(cgroup, "pids.max", limits.maxProcesses() > 0 ? Integer.toString(limits.maxProcesses()) : "max");
+            if (namespaces) {
+                filesystem = Files.createTempDirectory("sandbox-root-");
+            }
+        } catch (IOException e) {
+            Files.deleteIfExists(cgroup);
+            throw e;
+        }
+        return new SandboxCell(cgroup, filesystem, launcher(limits, filesystem, workspace, writable));
+    }
+
+    private List<String> launcher(ResourceLimits limits, Path filesystem, Path workspace, Path writable) {
+        List<String> launcher = new ArrayList<>(List.of(
+                "prlimit",
+                "--core=0",
+                "--nofile=" + maxOpenFiles,
+                "--fsize=" + (limits.outputBytes() + 1),
+                "--"));
+        if (namespaces) {
+            launcher.addAll(List.of("unshare", "--user", "--map-root-user", "--mount", "--pid", "--fork", "--net", "--ipc", "--uts", "--",
+                    "/bin/sh", "-c", mountScript(filesystem, workspace.toAbsolutePath(), writable), "sandbox"));
+        }
+        return launcher;
+    }
+
+    private String mountScript(Path filesystem, Path workspace, Path writable) {
+        String root = filesystem.toAbsolutePath().toString();
+        List<String> steps = new ArrayList<>();
+        steps.add("mount -t tmpfs -o mode=755 sandbox " + quote(root));
+        for (Path path : readOnlyPaths) {
+            String target = quote(root + path);
+            if (Files.isSymbolicLink(path)) {
+                try {
+                    steps.add("ln -s " + quote(Files.readSymbolicLink(path).toString()) + " " + target);
+                } catch (IOException e) {
+                    log.debug("Skipping unreadable link {}", path, e);
+                }
+            } else if (Files.isDirectory(path)) {
+                steps.add("mkdir -p " + target);
+                steps.add("mount --rbind " + quote(path.toString()) + " " + target);
+                steps.add("mount -o remount,bind,ro " + target);
+            }
+        }
+        steps.add("mkdir -p " + quote(root + "/proc") + " " + quote(root + "/dev") + " " + quote(root + "/tmp"));
+        steps.add("mount -t tmpfs -o mode=1777 sandbox-tmp " + quote(root + "/tmp"));
+        for (String device : DEVICES) {
+            steps.add("touch " + quote(root + "/dev/" + device));
+            steps.add("mount --bind /dev/" + device + " " + quote(root + "/dev/" + device));
+        }
+        steps.add("{ mount -t proc proc " + quote(root + "/proc") + " || mount --rbind /proc " + quote(root + "/proc") + "; }");
+        for (Path path : writable == null ? List.of(workspace) : List.of(workspace, writable.toAbsolutePath())) {
+            steps.add("mkdir -p " + quote(root + path));
+            steps.add("mount --bind " + quote(path.toString()) + " " + quote(root + path));
+        }
+        steps.add(LaunchMarker.SHELL_STEP);
+        return String.join(" && ", steps) + " || exit 1\n"
+                + "exec chroot " + quote(root) + " /bin/sh -c " + quote("cd \"$0\" && exec \"$@\"") + " "
+                + quote(workspace.toString()) + " \"$@\"";
+    }
+
+    private static String quote(String value) {
+        return "'" + value.replace("'", "'\\''") + "'";
+    }
+
+    private boolean onPath(String executable) {
+        String path = System.getenv("PATH");
+        if (path == null) {
+            return false;
+        }
+        for (String directory : path.split(File.pathSeparator)) {
+            if (!directory.isEmpty() && Files.isExecutable(Path.of(directory, executable))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void enableControllers(Path cgroup) throws IOException {
+        Set<String> enabledControllers = Set.of(Files.readString(cgroup.resolve("cgroup.subtree_control")).trim().split("\\s+"));
+        if (enabledControllers.containsAll(CONTROLLERS)) {
+            return;
+        }
+        Set<String> availableControllers = Set.of(Files.readString(cgroup.resolve("cgroup.controllers")).trim().split("\\s+"));
+        if (!availableControllers.containsAll(CONTROLLERS)) {
+            throw new IOException(cgroup + " does not delegate the " + CONTROLLERS + " controllers");
+        }
+        write(cgroup, "cgroup.subtree_control", "+cpu +memory +pids");
+    }
+
+    private void write(Path cgroup, String file, String value) throws IOException {
+        Files.writeString(cgroup.resolve(file), value);
+    }
+}
@@ -0,0 +1,9 @@
+package ai.shodhai.judge.sandbox;
+
+import java.io.IOException;
+
+@FunctionalInterface
+public interface OutputSink {
+
+    boolean accept(byte[] buffer, int offset, int length) throws IOException;
+}
@@ -0,0 +1,81 @@
+package ai.shodhai.judge.sandbox;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class PooledContainer {
+
+    private final String name;
+    private final String language;
+    private final Path workspace;
+    private final String imageId;
+    private final ContainerDriver driver;
+    private final AtomicBoolean tainted = new AtomicBoolean(false);
+    private int uses;
+    private long memoryKb;
+    private int maxProcesses;
+    private boolean sealed;
+
+    PooledContainer(String name, String language, Path workspace, String imageId, ContainerDriver driver) {
+        this.name = name;
+        this.language = language;
+        this.workspace = workspace;
+        this.imageId = imageId;
+        this.driver = driver;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getLanguage() {
+        return language;
+    }
+
+    public Path getWorkspace() {
+        return workspace;
+    }
+
+    public String getImageId() {
+        return imageId;
+    }
+
+    public List<String> exec(Map<String, String> environment, List<String> command) {
+        return driver.execCommand(name, workspace, environment, command);
+    }
+
+    public synchronized void prepare(boolean compileStep, ResourceLimits limits) throws IOException, InterruptedException {
+        if (!compileStep && !sealed) {
+            driver.seal(name);
+            sealed = true;
+        }
+        if (limits.memoryKb() != memoryKb || limits.maxProcesses() != maxProcesses) {
+            driver.applyLimits(name, limits);
+            memoryKb = limits.memoryKb();
+            maxProcesses = limits.maxProcesses();
+        }
+    }
+
+    public boolean isHealthy() {
+        return driver.isHealthy(name);
+    }
+
+    public void markTainted() {
+        tainted.set(true);
+    }
+
+    boolean isTainted() {
+        return tainted.get();
+    }
+
+    synchronized void unseal() {
+        sealed = false;
+    }
+
+    int recordUse() {
+        return ++uses;
+    }
+}
@@ -0,0 +1,13 @@
+package ai.shodhai.judge.sandbox;
+
+public record ProcessResult(Termination termination, int exitCode, double elapsedSeconds, double cpuSeconds,
+                            long peakMemoryKb) {
+
+    public enum Termination {
+        EXITED,
+        TIMED_OUT,
+        MEMORY_LIMIT_EXCEEDED,
+        OUTPUT_LIMIT_EXCEEDED,
+        REJECTED
+    }
+}
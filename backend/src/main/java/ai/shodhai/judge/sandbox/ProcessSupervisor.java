@@ -0,0 +1,341 @@
+package ai.shodhai.judge.sandbox;
+
+import ai.shodhai.judge.sandbox.ProcessResult.Termination;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+@Component
+public class ProcessSupervisor {
+
+    private static final Logger log = LoggerFactory.getLogger(ProcessSupervisor.class);
+    private static final int CHUNK_SIZE = 64 * 1024;
+    private static final long DESTROY_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(5);
+    private static final String TIMES_WRAPPER = "\"$@\"; status=$?; times > \"$0\"; exit $status";
+
+    private final long pollIntervalNanos;
+    private final List<IoLoop> loops = new ArrayList<>();
+    private final AtomicInteger nextLoop = new AtomicInteger();
+
+    public ProcessSupervisor(@Value("${judge.execution.io-threads:1}") int ioThreads,
+                             @Value("${judge.execution.poll-interval-ms:5}") long pollIntervalMillis) {
+        this.pollIntervalNanos = Duration.ofMillis(Math.max(1, pollIntervalMillis)).toNanos();
+        for (int i = 0; i < Math.max(1, ioThreads); i++) {
+            loops.add(new IoLoop());
+        }
+    }
+
+    @PostConstruct
+    public void start() {
+        for (int i = 0; i < loops.size(); i++) {
+            Thread thread = new Thread(loops.get(i), "judge-io-" + (i + 1));
+            thread.setDaemon(true);
+            loops.get(i).thread = thread;
+            thread.start();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (IoLoop loop : loops) {
+            loop.running = false;
+            LockSupport.unpark(loop.thread);
+        }
+    }
+
+    public CompletableFuture<ProcessResult> start(ProcessBuilder builder, Path stdout, OutputSink sink,
+                                                  ResourceLimits limits) throws IOException {
+        return start(builder, stdout, sink, limits, null);
+    }
+
+    public CompletableFuture<ProcessResult> start(ProcessBuilder builder, Path stdout, OutputSink sink,
+                                                  ResourceLimits limits, SandboxCell cell) throws IOException {
+        IoLoop loop = loops.get(Math.floorMod(nextLoop.getAndIncrement(), loops.size()));
+        Path timesReport = limits.measuresUsage() && cell == null ? reportTimes(builder) : null;
+        FileChannel channel = null;
+        Process process;
+        long startNanos = System.nanoTime();
+        try {
+            channel = stdout != null ? FileChannel.open(stdout, StandardOpenOption.READ) : null;
+            process = builder.start();
+            if (builder.redirectInput() == ProcessBuilder.Redirect.PIPE) {
+                process.getOutputStream().close();
+            }
+        } catch (IOException e) {
+            if (channel != null) {
+                channel.close();
+            }
+            if (timesReport != null) {
+                Files.deleteIfExists(timesReport);
+            }
+            throw e;
+        }
+        Run run = new Run(process, channel, sink, limits, cell, timesReport, startNanos, pollIntervalNanos);
+        process.onExit().thenRun(() -> {
+            run.exitNanos = System.nanoTime();
+            run.exited = true;
+            LockSupport.unpark(loop.thread);
+        });
+        loop.register(run);
+        return run.result;
+    }
+
+    private static Path reportTimes(ProcessBuilder builder) throws IOException {
+        Path report = Files.createTempFile("times-", ".txt");
+        List<String> wrapped = new ArrayList<>(List.of("/bin/sh", "-c", TIMES_WRAPPER, report.toString()));
+        wrapped.addAll(builder.command());
+        builder.command(wrapped);
+        return report;
+    }
+
+    public int activeProcesses() {
+        return loops.stream().mapToInt(loop -> loop.activeCount).sum();
+    }
+
+    private final class IoLoop implements Runnable {
+        private final Queue<Run> pending = new ConcurrentLinkedQueue<>();
+        private final List<Run> active = new ArrayList<>();
+        private final ByteBuffer buffer = ByteBuffer.allocate(CHUNK_SIZE);
+        private volatile Thread thread;
+        private volatile boolean running = true;
+        private volatile int activeCount;
+
+        private void register(Run run) {
+            pending.add(run);
+            LockSupport.unpark(thread);
+        }
+
+        @Override
+        public void run() {
+            while (running) {
+                Run added;
+                while ((added = pending.poll()) != null) {
+                    active.add(added);
+                }
+                boolean progressed = false;
+                Iterator<Run> iterator = active.iterator();
+                while (iterator.hasNext()) {
+                    Run run = iterator.next();
+                    try {
+                        progressed |= run.step(buffer);
+                    } catch (IOException | RuntimeException e) {
+                        run.fail(e);
+                    }
+                    if (run.done) {
+                        iterator.remove();
+                    }
+                }
+                activeCount = active.size();
+                if (!progressed && pending.isEmpty()) {
+                    if (active.isEmpty()) {
+                        LockSupport.park(this);
+                    } else {
+                        LockSupport.parkNanos(this, pollIntervalNanos);
+                    }
+                }
+            }
+            pending.forEach(active::add);
+            active.forEach(run -> run.fail(new CancellationException("Process supervisor stopped")));
+        }
+    }
+
+    private static final class Run {
+        private final Process process;
+        private final FileChannel channel;
+        private final OutputSink sink;
+        private final ResourceLimits limits;
+        private final SandboxCell cell;
+        private final Path timesReport;
+        private final long startNanos;
+        private final long deadlineNanos;
+        private final long sampleIntervalNanos;
+        private final CompletableFuture<ProcessResult> result = new CompletableFuture<>() {
+            @Override
+            public boolean cancel(boolean mayInterruptIfRunning) {
+                boolean cancelled = super.cancel(mayInterruptIfRunning);
+                destroy(process);
+                awaitExit(process);
+                return cancelled;
+            }
+        };
+        private long consumed;
+        private long nextSampleNanos;
+        private ProcessUsage usage;
+        private long peakMemoryKb;
+        private long programPid;
+        private boolean done;
+        private volatile boolean exited;
+        private volatile long exitNanos;
+
+        private Run(Process process, FileChannel channel, OutputSink sink, ResourceLimits limits, SandboxCell cell,
+                    Path timesReport, long startNanos, long sampleIntervalNanos) {
+            this.process = process;
+            this.channel = channel;
+            this.sink = sink;
+            this.limits = limits;
+            this.cell = cell;
+            this.timesReport = timesReport;
+            this.startNanos = startNanos;
+            this.deadlineNanos = startNanos + limits.wallTime().toNanos();
+            this.sampleIntervalNanos = sampleIntervalNanos;
+            this.nextSampleNanos = startNanos;
+        }
+
+        private boolean step(ByteBuffer buffer) throws IOException {
+            if (result.isDone()) {
+                destroy(process);
+                close();
+                return false;
+            }
+            boolean finished = exited;
+            boolean progressed = false;
+            if (channel != null) {
+                buffer.clear();
+                int read = channel.read(buffer);
+                if (read > 0) {
+                    progressed = true;
+                    consumed += read;
+                    if (consumed > limits.outputBytes()) {
+                        terminate(Termination.OUTPUT_LIMIT_EXCEEDED);
+                        return true;
+                    }
+                    if (sink != null && !sink.accept(buffer.array(), 0, read)) {
+                        terminate(Termination.REJECTED);
+                        return true;
+                    }
+                }
+            }
+            if (finished && !progressed) {
+                complete(Termination.EXITED, process.exitValue(), exitNanos);
+            } else if (!finished) {
+                long now = System.nanoTime();
+                if (limits.measuresUsage() && now - nextSampleNanos >= 0) {
+                    nextSampleNanos = now + sampleIntervalNanos;
+                    sample();
+                }
+                if (now - deadlineNanos > 0 || exceedsCpuTime()) {
+                    terminate(Termination.TIMED_OUT);
+                } else if (limits.memoryKb() > 0 && peakMemoryKb > limits.memoryKb()) {
+                    terminate(Termination.MEMORY_LIMIT_EXCEEDED);
+                }
+            }
+            return progressed;
+        }
+
+        private void sample() {
+            ProcessUsage current = cell != null ? cell.usage() : ProcessUsage.ofProcess(programPid());
+            if (current != null && (cell != null || !exited)) {
+                usage = current;
+                peakMemoryKb = Math.max(peakMemoryKb, current.peakMemoryKb());
+            }
+        }
+
+        private long programPid() {
+            if (timesReport == null) {
+                return process.pid();
+            }
+            if (programPid == 0) {
+                programPid = process.children().findFirst().map(ProcessHandle::pid).orElse(0L);
+            }
+            return programPid != 0 ? programPid : process.pid();
+        }
+
+        private void sampleExit() {
+            double reported = ProcessUsage.childCpuSeconds(timesReport);
+            if (reported >= 0 && (usage == null || reported > usage.cpuSeconds())) {
+                usage = new ProcessUsage(reported, peakMemoryKb);
+            }
+        }
+
+        private boolean exceedsCpuTime() {
+            return usage != null && usage.cpuSeconds() * 1000 > limits.cpuTime().toMillis();
+        }
+
+        private void terminate(Termination termination) {
+            destroy(process);
+            complete(termination, -1, System.nanoTime());
+        }
+
+        private void complete(Termination termination, int exitCode, long endNanos) {
+            if (cell != null) {
+                sample();
+                if (termination == Termination.EXITED && cell.oomKilled()) {
+                    termination = Termination.MEMORY_LIMIT_EXCEEDED;
+                }
+            } else if (timesReport != null && termination == Termination.EXITED) {
+                sampleExit();
+            }
+            close();
+            double elapsed = Duration.ofNanos(endNanos - startNanos).toMillis() / 1000.0;
+            double cpu = limits.measuresUsage() && usage != null ? usage.cpuSeconds() : elapsed;
+            result.complete(new ProcessResult(termination, exitCode, elapsed, cpu, peakMemoryKb));
+        }
+
+        private void fail(Throwable error) {
+            destroy(process);
+            close();
+            result.completeExceptionally(error);
+        }
+
+        private void close() {
+            done = true;
+            try {
+                if (channel != null) {
+                    channel.close();
+                }
+                if (timesReport != null) {
+                    Files.deleteIfExists(timesReport);
+                }
+            } catch (IOException e) {
+                log.debug("Failed to clean up after process {}", process.pid(), e);
+            }
+        }
+    }
+
+    private static void destroy(Process process) {
+        process.descendants().forEach(ProcessHandle::destroyForcibly);
+        process.destroyForcibly();
+    }
+
+    private static void awaitExit(Process process) {
+        long deadline = System.nanoTime() + DESTROY_TIMEOUT_NANOS;
+        boolean interrupted = false;
+        while (process.isAlive()) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                log.warn("Process {} did not exit within {}s of being destroyed", process.pid(),
+                        TimeUnit.NANOSECONDS.toSeconds(DESTROY_TIMEOUT_NANOS));
+                break;
+            }
+            try {
+                process.waitFor(remaining, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package ai.shodhai.judge.sandbox;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+record ProcessUsage(double cpuSeconds, long peakMemoryKb) {
+
+    private static final Logger log = LoggerFactory.getLogger(ProcessUsage.class);
+    private static final double DEFAULT_TICKS_PER_SECOND = 100.0;
+    private static final double TICKS_PER_SECOND = clockTicks();
+    private static final Path PROC = Path.of("/proc");
+    private static final Pattern SHELL_TIME = Pattern.compile("(\\d+)m([\\d.]+)s");
+
+    static ProcessUsage ofProcess(long pid) {
+        try {
+            Path process = PROC.resolve(Long.toString(pid));
+            String stat = Files.readString(process.resolve("stat"));
+            String[] fields = stat.substring(stat.lastIndexOf(')') + 2).split(" ");
+            long cpuTicks = Long.parseLong(fields[11]) + Long.parseLong(fields[12])
+                    + Long.parseLong(fields[13]) + Long.parseLong(fields[14]);
+            return new ProcessUsage(cpuTicks / TICKS_PER_SECOND, peakRss(Files.readAllLines(process.resolve("status"))));
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    static double childCpuSeconds(Path timesReport) {
+        try {
+            List<String> lines = Files.readAllLines(timesReport);
+            if (lines.size() < 2) {
+                return -1;
+            }
+            double seconds = 0;
+            Matcher matcher = SHELL_TIME.matcher(lines.get(1));
+            while (matcher.find()) {
+                seconds += Long.parseLong(matcher.group(1)) * 60 + Double.parseDouble(matcher.group(2));
+            }
+            return seconds;
+        } catch (IOException | RuntimeException e) {
+            return -1;
+        }
+    }
+
+    private static double clockTicks() {
+        try {
+            Process getconf = new ProcessBuilder("getconf", "CLK_TCK").redirectErrorStream(true).start();
+            String output = new String(getconf.getInputStream().readAllBytes(), StandardCharsets.UTF_8).trim();
+            if (getconf.waitFor() == 0) {
+                return Double.parseDouble(output);
+            }
+        } catch (IOException | NumberFormatException e) {
+            log.debug("Cannot read CLK_TCK: {}", e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return DEFAULT_TICKS_PER_SECOND;
+    }
+
+    private static long peakRss(List<String> status) {
+        for (String line : status) {
+            if (line.startsWith("VmHWM:")) {
+                return Long.parseLong(line.substring(6).replace("kB", "").trim());
+            }
+        }
+        return 0;
+    }
+}
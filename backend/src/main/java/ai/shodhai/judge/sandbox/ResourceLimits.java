@@ -0,0 +1,18 @@
+package ai.shodhai.judge.sandbox;
+
+import java.time.Duration;
+
+public record ResourceLimits(Duration cpuTime, Duration wallTime, long memoryKb, int maxProcesses, long outputBytes) {
+
+    public ResourceLimits wallClockOnly() {
+        return new ResourceLimits(null, wallTime, 0, maxProcesses, outputBytes);
+    }
+
+    public ResourceLimits forConcurrentRuns(int runs) {
+        return new ResourceLimits(cpuTime, wallTime, memoryKb * runs, maxProcesses * runs, outputBytes);
+    }
+
+    boolean measuresUsage() {
+        return cpuTime != null;
+    }
+}
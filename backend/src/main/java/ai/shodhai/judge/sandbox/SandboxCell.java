@@ -0,0 +1,109 @@
+package ai.shodhai.judge.sandbox;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+public class SandboxCell implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(SandboxCell.class);
+    private static final int REMOVE_ATTEMPTS = 20;
+
+    private final Path cgroup;
+    private final Path filesystem;
+    private final List<String> launcher;
+
+    SandboxCell(Path cgroup, Path filesystem, List<String> launcher) {
+        this.cgroup = cgroup;
+        this.filesystem = filesystem;
+        this.launcher = launcher;
+    }
+
+    public List<String> wrap(List<String> command) {
+        List<String> wrapped = new ArrayList<>(List.of("/bin/sh", "-c", "echo $$ > \"$0\" && exec \"$@\"",
+                cgroup.resolve("cgroup.procs").toString()));
+        wrapped.addAll(launcher);
+        wrapped.addAll(command);
+        return wrapped;
+    }
+
+    public boolean setupFailed(Path stderr) throws IOException {
+        return filesystem != null && !LaunchMarker.presentIn(stderr);
+    }
+
+    ProcessUsage usage() {
+        try {
+            long usageMicros = 0;
+            for (String line : Files.readAllLines(cgroup.resolve("cpu.stat"))) {
+                if (line.startsWith("usage_usec ")) {
+                    usageMicros = Long.parseLong(line.substring(11).trim());
+                }
+            }
+            Path peak = cgroup.resolve("memory.peak");
+            String memory = Files.readString(Files.exists(peak) ? peak : cgroup.resolve("memory.current")).trim();
+            return new ProcessUsage(usageMicros / 1_000_000.0, Long.parseLong(memory) / 1024);
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    boolean oomKilled() {
+        try {
+            for (String line : Files.readAllLines(cgroup.resolve("memory.events"))) {
+                if (line.startsWith("oom_kill ")) {
+                    return Long.parseLong(line.substring(9).trim()) > 0;
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            log.debug("Failed to read memory events for {}", cgroup, e);
+        }
+        return false;
+    }
+
+    @Override
+    public void close() {
+        killAll();
+        if (filesystem != null) {
+            FileSystemUtils.deleteRecursively(filesystem.toFile());
+        }
+        for (int attempt = 0; attempt < REMOVE_ATTEMPTS; attempt++) {
+            try {
+                Files.deleteIfExists(cgroup);
+                return;
+            } catch (IOException e) {
+                killAll();
+                try {
+                    Thread.sleep(10);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+        log.warn("Failed to remove sandbox cgroup {}", cgroup);
+    }
+
+    private void killAll() {
+        Path kill = cgroup.resolve("cgroup.kill");
+        try {
+            if (Files.exists(kill)) {
+                Files.writeString(kill, "1");
+                return;
+            }
+            for (String pid : Files.readAllLines(cgroup.resolve("cgroup.procs"))) {
+                if (!pid.isBlank()) {
+                    ProcessHandle.of(Long.parseLong(pid.trim())).ifPresent(ProcessHandle::destroyForcibly);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            log.debug("Failed to kill processes in {}", cgroup, e);
+        }
+    }
+}
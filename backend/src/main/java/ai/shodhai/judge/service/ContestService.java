@@ -1,11 +1,13 @@
 package ai.shodhai.judge.service;
 
+import ai.shodhai.judge.catalog.CachedProblem;
+import ai.shodhai.judge.catalog.ProblemCatalog;
+import ai.shodhai.judge.config.ConditionalOnApiRole;
 import ai.shodhai.judge.domain.Contest;
-import ai.shodhai.judge.domain.Problem;
 import ai.shodhai.judge.dto.ContestResponse;
 import ai.shodhai.judge.dto.ProblemResponse;
 import ai.shodhai.judge.repository.ContestRepository;
-import ai.shodhai.judge.repository.ProblemRepository;
+import ai.shodhai.judge.storage.ContentHash;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -13,15 +15,16 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 @Service
+@ConditionalOnApiRole
 @Transactional(readOnly = true)
 public class ContestService {
 
     private final ContestRepository contestRepository;
-    private final ProblemRepository problemRepository;
+    private final ProblemCatalog problemCatalog;
 
-    public ContestService(ContestRepository contestRepository, ProblemRepository problemRepository) {
+    public ContestService(ContestRepository contestRepository, ProblemCatalog problemCatalog) {
         this.contestRepository = contestRepository;
-        this.problemRepository = problemRepository;
+        this.problemCatalog = problemCatalog;
     }
 
     public ContestResponse getContest(String contestId) {
@@ -30,10 +33,18 @@ public class ContestService {
         return new ContestResponse(contest.getId(), contest.getName(), contest.getDescription());
     }
 
+    public String getProblemsTag(String contestId) {
+        ContentHash hash = ContentHash.sha256().add(contestId);
+        for (CachedProblem problem : problemCatalog.getContestProblems(contestId)) {
+            hash.add(problem.id()).add(problem.version());
+        }
+        return hash.hex();
+    }
+
     public List<ProblemResponse> getProblems(String contestId) {
-        List<Problem> problems = problemRepository.findByContestIdOrderByIdAsc(contestId);
+        List<CachedProblem> problems = problemCatalog.getContestProblems(contestId);
         return problems.stream()
-                .map(problem -> new ProblemResponse(problem.getId(), problem.getTitle(), problem.getStatement(), problem.getDifficulty()))
+                .map(problem -> new ProblemResponse(problem.id(), problem.title(), problem.statement(), problem.difficulty()))
                 .collect(Collectors.toList());
     }
 }
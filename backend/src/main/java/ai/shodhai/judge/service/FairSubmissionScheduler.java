@@ -0,0 +1,86 @@
+package ai.shodhai.judge.service;
+
+import ai.shodhai.judge.repository.QueuedSubmission;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@ConditionalOnProperty(name = "judge.queue.scheduler", havingValue = "fair", matchIfMissing = true)
+public class FairSubmissionScheduler implements SubmissionScheduler {
+
+    private final Map<String, Double> contestWeights;
+    private final Map<String, Double> contestPasses = new HashMap<>();
+    private final Map<Long, Double> userPasses = new HashMap<>();
+
+    public FairSubmissionScheduler(@Value("#{${judge.queue.contest-weights:{:}}}") Map<String, Double> contestWeights) {
+        this.contestWeights = contestWeights;
+    }
+
+    @Override
+    public synchronized List<QueuedSubmission> select(List<QueuedSubmission> candidates, int limit) {
+        List<QueuedSubmission> selected = new ArrayList<>(Math.min(limit, candidates.size()));
+        for (QueueClass queueClass : QueueClass.values()) {
+            Map<String, Map<Long, Deque<QueuedSubmission>>> byContest = new LinkedHashMap<>();
+            for (QueuedSubmission candidate : candidates) {
+                if (QueueClass.of(candidate.isSampleOnly()) == queueClass) {
+                    byContest.computeIfAbsent(candidate.getContestId(), key -> new LinkedHashMap<>())
+                            .computeIfAbsent(candidate.getUserId(), key -> new ArrayDeque<>())
+                            .add(candidate);
+                }
+            }
+            while (selected.size() < limit && !byContest.isEmpty()) {
+                String contestId = lowestPass(byContest.keySet(), contestPasses);
+                Map<Long, Deque<QueuedSubmission>> byUser = byContest.get(contestId);
+                Long userId = lowestPass(byUser.keySet(), userPasses);
+                Deque<QueuedSubmission> pending = byUser.get(userId);
+
+                selected.add(pending.poll());
+                contestPasses.merge(contestId, 1.0 / contestWeights.getOrDefault(contestId, 1.0), Double::sum);
+                userPasses.merge(userId, 1.0, Double::sum);
+
+                if (pending.isEmpty()) {
+                    byUser.remove(userId);
+                }
+                if (byUser.isEmpty()) {
+                    byContest.remove(contestId);
+                }
+            }
+        }
+        forgetIdle(candidates);
+        return selected;
+    }
+
+    private <K> K lowestPass(Collection<K> keys, Map<K, Double> passes) {
+        double floor = passes.values().stream().mapToDouble(Double::doubleValue).min().orElse(0.0);
+        K lowest = null;
+        double lowestPass = Double.MAX_VALUE;
+        for (K key : keys) {
+            double pass = passes.computeIfAbsent(key, ignored -> floor);
+            if (pass < lowestPass) {
+                lowest = key;
+                lowestPass = pass;
+            }
+        }
+        return lowest;
+    }
+
+    private void forgetIdle(List<QueuedSubmission> candidates) {
+        if (candidates.isEmpty()) {
+            contestPasses.clear();
+            userPasses.clear();
+            return;
+        }
+        userPasses.keySet().retainAll(candidates.stream().map(QueuedSubmission::getUserId).toList());
+        contestPasses.keySet().retainAll(candidates.stream().map(QueuedSubmission::getContestId).toList());
+    }
+}
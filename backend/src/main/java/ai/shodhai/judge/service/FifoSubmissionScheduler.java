@@ -0,0 +1,17 @@
+package ai.shodhai.judge.service;
+
+import ai.shodhai.judge.repository.QueuedSubmission;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@ConditionalOnProperty(name = "judge.queue.scheduler", havingValue = "fifo")
+public class FifoSubmissionScheduler implements SubmissionScheduler {
+
+    @Override
+    public List<QueuedSubmission> select(List<QueuedSubmission> candidates, int limit) {
+        return candidates.subList(0, Math.min(limit, candidates.size()));
+    }
+}
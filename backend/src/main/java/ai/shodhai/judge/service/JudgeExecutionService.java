@@ -1,8 +1,28 @@
 package ai.shodhai.judge.service;
 
-import ai.shodhai.judge.domain.Problem;
+import ai.shodhai.judge.catalog.CachedProblem;
+import ai.shodhai.judge.catalog.CachedTestCase;
+import ai.shodhai.judge.checker.CheckContext;
+import ai.shodhai.judge.checker.CheckResult;
+import ai.shodhai.judge.checker.CheckSession;
+import ai.shodhai.judge.checker.OutputChecker;
+import ai.shodhai.judge.checker.OutputCheckers;
+import ai.shodhai.judge.metrics.JudgeMetrics;
+import ai.shodhai.judge.domain.ScoringMode;
 import ai.shodhai.judge.domain.Submission;
-import ai.shodhai.judge.domain.TestCase;
+import ai.shodhai.judge.runtime.LanguageRuntime;
+import ai.shodhai.judge.runtime.RuntimeRegistry;
+import ai.shodhai.judge.sandbox.ContainerLauncher;
+import ai.shodhai.judge.sandbox.ContainerPool;
+import ai.shodhai.judge.sandbox.LaunchMarker;
+import ai.shodhai.judge.sandbox.NativeSandbox;
+import ai.shodhai.judge.sandbox.PooledContainer;
+import ai.shodhai.judge.sandbox.ProcessResult;
+import ai.shodhai.judge.sandbox.ProcessSupervisor;
+import ai.shodhai.judge.sandbox.ResourceLimits;
+import ai.shodhai.judge.sandbox.SandboxCell;
+import ai.shodhai.judge.storage.ArtifactCache;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -10,211 +30,663 @@ import org.springframework.stereotype.Service;
 import org.springframework.util.FileSystemUtils;
 
 import java.io.IOException;
-import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.time.Duration;
-import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Locale;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
 
 @Service
 public class JudgeExecutionService {
 
     private static final Logger log = LoggerFactory.getLogger(JudgeExecutionService.class);
+    private static final int STDERR_TAIL_BYTES = 4 * 1024;
+    private static final long CONTAINER_REMOVE_TIMEOUT_SECONDS = 10;
+    private static final int CONTAINER_OOM_EXIT_CODE = 137;
+    private static final Pattern COMPILER_ERROR = Pattern.compile("\\berror\\b");
 
     private final boolean dockerEnabled;
-    private final String dockerImage;
+    private final ContainerPool containerPool;
+    private final ThreadPoolExecutor testExecutor;
+    private final OutputCheckers outputCheckers;
+    private final long outputLimitBytes;
+    private final double floatTolerance;
+    private final long defaultTimeLimitMillis;
+    private final long defaultMemoryLimitMb;
+    private final long compileTimeLimitMillis;
+    private final long compileMemoryLimitMb;
+    private final int compileMaxProcesses;
+    private final long compileFileSizeMb;
+    private final int defaultMaxProcesses;
+    private final double wallTimeFactor;
+    private final ProcessSupervisor processSupervisor;
+    private final NativeSandbox nativeSandbox;
+    private final RuntimeRegistry runtimeRegistry;
+    private final SubmissionResultCache resultCache;
+    private final ArtifactCache artifactCache;
+    private final JudgeMetrics metrics;
 
-    public JudgeExecutionService(@Value("${judge.docker.enabled:false}") boolean dockerEnabled,
-                                 @Value("${judge.docker.image:shodhai/judge:latest}") String dockerImage) {
+    public JudgeExecutionService(ContainerPool containerPool,
+                                 OutputCheckers outputCheckers,
+                                 ProcessSupervisor processSupervisor,
+                                 NativeSandbox nativeSandbox,
+                                 RuntimeRegistry runtimeRegistry,
+                                 SubmissionResultCache resultCache,
+                                 ArtifactCache artifactCache,
+                                 JudgeMetrics metrics,
+                                 @Value("${judge.docker.enabled:false}") boolean dockerEnabled,
+                                 @Value("${judge.tests.parallel.enabled:false}") boolean parallelTests,
+                                 @Value("${judge.tests.parallel.threads:0}") int parallelThreads,
+                                 @Value("${judge.checker.output-limit-bytes:16777216}") long outputLimitBytes,
+                                 @Value("${judge.checker.float-tolerance:1e-6}") double floatTolerance,
+                                 @Value("${judge.limits.time-ms:10000}") long defaultTimeLimitMillis,
+                                 @Value("${judge.limits.memory-mb:256}") long defaultMemoryLimitMb,
+                                 @Value("${judge.limits.compile-time-ms:30000}") long compileTimeLimitMillis,
+                                 @Value("${judge.limits.compile-memory-mb:1024}") long compileMemoryLimitMb,
+                                 @Value("${judge.limits.compile-max-processes:256}") int compileMaxProcesses,
+                                 @Value("${judge.limits.compile-file-size-mb:256}") long compileFileSizeMb,
+                                 @Value("${judge.limits.max-processes:64}") int defaultMaxProcesses,
+                                 @Value("${judge.limits.wall-time-factor:2.0}") double wallTimeFactor) {
         this.dockerEnabled = dockerEnabled;
-        this.dockerImage = dockerImage;
+        this.containerPool = containerPool;
+        this.testExecutor = parallelTests ? createTestExecutor(parallelThreads) : null;
+        this.outputCheckers = outputCheckers;
+        this.processSupervisor = processSupervisor;
+        this.nativeSandbox = nativeSandbox;
+        this.runtimeRegistry = runtimeRegistry;
+        this.resultCache = resultCache;
+        this.artifactCache = artifactCache;
+        this.metrics = metrics;
+        this.outputLimitBytes = outputLimitBytes;
+        this.floatTolerance = floatTolerance;
+        this.defaultTimeLimitMillis = defaultTimeLimitMillis;
+        this.defaultMemoryLimitMb = defaultMemoryLimitMb;
+        this.compileTimeLimitMillis = compileTimeLimitMillis;
+        this.compileMemoryLimitMb = compileMemoryLimitMb;
+        this.compileMaxProcesses = compileMaxProcesses;
+        this.compileFileSizeMb = compileFileSizeMb;
+        this.defaultMaxProcesses = defaultMaxProcesses;
+        this.wallTimeFactor = wallTimeFactor;
     }
 
-    public ExecutionSummary judgeSubmission(Submission submission) {
-        Problem problem = submission.getProblem();
-        List<TestCase> testCases = problem.getTestCases();
+    private static ThreadPoolExecutor createTestExecutor(int threads) {
+        int size = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadIndex = new AtomicInteger();
+        return new ThreadPoolExecutor(size, size, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "judge-test-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (testExecutor != null) {
+            testExecutor.shutdownNow();
+        }
+    }
+
+    public ExecutionSummary judgeSubmission(Submission submission, CachedProblem problem) {
+        List<CachedTestCase> testCases = submission.isSampleOnly() ? problem.sampleTestCases() : problem.testCases();
         if (testCases.isEmpty()) {
             return ExecutionSummary.accepted(0.0, "No test cases configured");
         }
 
-        double totalTime = 0.0;
-        int passed = 0;
+        LanguageRuntime runtime = runtimeRegistry.find(submission.getLanguage()).orElse(null);
+        if (runtime == null) {
+            return ExecutionSummary.failed("Unsupported Language", 0.0, "Language " + submission.getLanguage() + " is not supported yet.");
+        }
 
-        for (TestCase testCase : testCases) {
-            ExecutionOutcome outcome = runSingleTest(submission, testCase);
-            if (!outcome.success()) {
-                String verdict = Optional.ofNullable(outcome.verdict()).orElse("Wrong Answer");
-                return ExecutionSummary.failed(verdict, totalTime, outcome.message());
+        String cacheKey = resultCache.keyFor(runtime, submission.getSourceCode(), problem, testCases, submission.isSampleOnly());
+        Optional<ExecutionSummary> cached = resultCache.get(cacheKey);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        boolean partialScoring = !submission.isSampleOnly() && problem.scoringMode() == ScoringMode.IOI;
+        ExecutionSummary summary = judge(runtime, submission.getSourceCode(), problem, testCases, partialScoring);
+        resultCache.put(cacheKey, summary);
+        return summary;
+    }
+
+    private ExecutionSummary judge(LanguageRuntime runtime, String sourceCode, CachedProblem problem, List<CachedTestCase> testCases,
+                                   boolean partialScoring) {
+        Workspace workspace = null;
+        try {
+            workspace = prepareWorkspace(runtime, sourceCode);
+            ExecutionOutcome compilation = compile(workspace, sourceCode);
+            if (!compilation.success()) {
+                return ExecutionSummary.failed(compilation.verdict(), 0.0, compilation.message())
+                        .withCompileTime(compilation.timeSeconds());
             }
-            totalTime += outcome.timeSeconds();
-            passed++;
+
+            ExecutionSummary summary = testExecutor != null && testCases.size() > 1
+                    ? judgeInParallel(workspace, problem, testCases, partialScoring)
+                    : judgeSequentially(workspace, problem, testCases, partialScoring);
+            return summary.withCompileTime(compilation.timeSeconds());
+        } catch (IOException e) {
+            log.warn("Failed to prepare workspace", e);
+            return ExecutionSummary.failed("System Error", 0.0, e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return ExecutionSummary.failed("System Error", 0.0, "Execution interrupted");
+        } finally {
+            if (workspace != null) {
+                releaseWorkspace(workspace);
+            }
+        }
+    }
+
+    private Workspace prepareWorkspace(LanguageRuntime runtime, String sourceCode) throws IOException {
+        long start = System.nanoTime();
+        PooledContainer container = dockerEnabled ? containerPool.acquire(runtime.id()).orElse(null) : null;
+        Workspace workspace = new Workspace(
+                container != null ? container.getWorkspace() : Files.createTempDirectory("submission-"),
+                Files.createTempDirectory("submission-output-"),
+                runtime,
+                container);
+        try {
+            Files.writeString(workspace.directory().resolve(runtime.sourceFile()), sourceCode, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            releaseWorkspace(workspace);
+            throw e;
         }
+        metrics.recordWorkspaceSetup(runtime, System.nanoTime() - start);
+        return workspace;
+    }
 
-        double score = passed == testCases.size() ? 1.0 : (double) passed / testCases.size();
-        return ExecutionSummary.accepted(totalTime, "Accepted", score);
+    private void releaseWorkspace(Workspace workspace) {
+        FileSystemUtils.deleteRecursively(workspace.outputDirectory().toFile());
+        if (workspace.container() != null) {
+            containerPool.release(workspace.container());
+        } else {
+            FileSystemUtils.deleteRecursively(workspace.directory().toFile());
+        }
     }
 
-    private ExecutionOutcome runSingleTest(Submission submission, TestCase testCase) {
-        Path workDir = null;
+    private ExecutionOutcome compile(Workspace workspace, String sourceCode) throws IOException, InterruptedException {
+        LanguageRuntime runtime = workspace.runtime();
+        if (!runtime.requiresCompilation()) {
+            return ExecutionOutcome.success(0.0);
+        }
+        long start = System.nanoTime();
+        String artifactKey = artifactCache.keyFor(compileEnvironment(workspace), runtime.id(), runtime.compileCommand(),
+                runtime.sourceFile(), sourceCode);
+        if (artifactCache.restore(artifactKey, workspace.directory())) {
+            metrics.recordCompile(runtime, "cached", System.nanoTime() - start);
+            return ExecutionOutcome.success(0.0);
+        }
+        ExecutionOutcome outcome = executeInWorkspace(workspace, true, null, compileLimits());
+        metrics.recordCompile(runtime, outcome.success() ? "compiled" : "failed", System.nanoTime() - start);
+        if (!outcome.success() && "Compile Error".equals(outcome.verdict())) {
+            return ExecutionOutcome.failure("Compile Error", outcome.timeSeconds(), compileDiagnostic(outcome.message()));
+        }
+        if (outcome.success() && !outcome.fallback()) {
+            artifactCache.store(artifactKey, workspace.directory(), runtime.sourceFile());
+        }
+        return outcome;
+    }
+
+    private String compileEnvironment(Workspace workspace) {
+        if (workspace.container() != null) {
+            return "image:" + workspace.container().getImageId();
+        }
+        if (dockerEnabled) {
+            return "image:" + containerPool.imageId();
+        }
+        return "host:" + runtimeRegistry.toolchainIdentity(workspace.runtime());
+    }
+
+    private String compileDiagnostic(String message) {
+        String trimmed = Optional.ofNullable(message).orElse("").trim();
+        return trimmed.lines()
+                .filter(line -> COMPILER_ERROR.matcher(line).find())
+                .findFirst()
+                .map(String::trim)
+                .orElse(trimmed.substring(trimmed.lastIndexOf('\n') + 1));
+    }
+
+    private ExecutionSummary judgeSequentially(Workspace workspace, CachedProblem problem, List<CachedTestCase> testCases,
+                                               boolean partialScoring) {
+        ExecutionOutcome[] outcomes = new ExecutionOutcome[testCases.size()];
+        for (int i = 0; i < outcomes.length; i++) {
+            outcomes[i] = runSingleTest(workspace, problem, testCases.get(i));
+            if (endsRun(outcomes[i], partialScoring)) {
+                break;
+            }
+        }
+        return summarize(outcomes, partialScoring);
+    }
+
+    private ExecutionSummary judgeInParallel(Workspace workspace, CachedProblem problem, List<CachedTestCase> testCases,
+                                             boolean partialScoring) {
+        int count = testCases.size();
+        ParallelTestRun<ExecutionOutcome> run = new ParallelTestRun<>(testExecutor, count);
+        for (CachedTestCase testCase : testCases) {
+            run.submit(() -> runSingleTest(workspace, problem, testCase));
+        }
+
+        ExecutionOutcome[] outcomes = new ExecutionOutcome[count];
+        int lastNeeded = count - 1;
         try {
-            workDir = Files.createTempDirectory("submission-");
-            LanguageRuntime runtime = resolveRuntime(submission.getLanguage());
-            if (runtime == LanguageRuntime.UNSUPPORTED) {
-                return ExecutionOutcome.failure("Unsupported Language", 0.0, "Language " + submission.getLanguage() + " is not supported yet.");
-            }
-
-            Path sourceFile = workDir.resolve(runtime.sourceFile());
-            Files.writeString(sourceFile, submission.getSourceCode(), StandardCharsets.UTF_8);
-
-            String input = Optional.ofNullable(testCase.getInputData()).orElse("");
-            ExecutionOutcome outcome;
-            if (dockerEnabled) {
-                outcome = execute(runtime.dockerCommand(workDir, dockerImage), workDir, input, false);
-                if (!outcome.success() && "System Error".equalsIgnoreCase(outcome.verdict())) {
-                    log.warn("Docker execution failed, falling back to local runtime: {}", outcome.message());
-                    outcome = execute(runtime.localCommand(), workDir, input, true);
+            while (!resolvedBefore(outcomes, lastNeeded + 1)) {
+                ParallelTestRun.Completed<ExecutionOutcome> result = run.take();
+                outcomes[result.index()] = result.value();
+                if (endsRun(result.value(), partialScoring) && result.index() < lastNeeded) {
+                    lastNeeded = result.index();
+                    run.stopFrom(lastNeeded + 1);
                 }
-            } else {
-                outcome = execute(runtime.localCommand(), workDir, input, true);
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return ExecutionSummary.failed("System Error", 0.0, "Execution interrupted");
+        } catch (ExecutionException e) {
+            log.warn("Parallel test execution failed", e.getCause());
+            return ExecutionSummary.failed("System Error", 0.0, String.valueOf(e.getCause().getMessage()));
+        } finally {
+            run.stopAndAwait();
+        }
+        Arrays.fill(outcomes, lastNeeded + 1, count, null);
+        return summarize(outcomes, partialScoring);
+    }
 
-            if (!outcome.success()) {
-                return outcome;
+    private boolean endsRun(ExecutionOutcome outcome, boolean partialScoring) {
+        return !outcome.success() && (!partialScoring || isSystemError(outcome));
+    }
+
+    private boolean isSystemError(ExecutionOutcome outcome) {
+        return "System Error".equalsIgnoreCase(outcome.verdict());
+    }
+
+    private ExecutionSummary summarize(ExecutionOutcome[] outcomes, boolean partialScoring) {
+        double totalTime = 0.0;
+        double totalCpu = 0.0;
+        long peakMemory = 0;
+        int passed = 0;
+        ExecutionOutcome failure = null;
+        for (ExecutionOutcome outcome : outcomes) {
+            if (outcome == null) {
+                continue;
+            }
+            totalCpu += outcome.cpuSeconds();
+            peakMemory = Math.max(peakMemory, outcome.peakMemoryKb());
+            if (outcome.success()) {
+                totalTime += outcome.timeSeconds();
+                passed++;
+            } else if (failure == null || isSystemError(outcome)) {
+                failure = outcome;
             }
+        }
+        if (failure == null) {
+            return ExecutionSummary.accepted(totalTime, "Accepted").withUsage(totalCpu, peakMemory);
+        }
+        String verdict = Optional.ofNullable(failure.verdict()).orElse("Wrong Answer");
+        ExecutionSummary summary = ExecutionSummary.failed(verdict, totalTime, failure.message()).withUsage(totalCpu, peakMemory);
+        return partialScoring && !isSystemError(failure) ? summary.withScore((double) passed / outcomes.length) : summary;
+    }
 
-            String expected = Optional.ofNullable(testCase.getExpectedOutput()).orElse("").trim();
-            if (!normalizeLineEndings(outcome.output()).equals(normalizeLineEndings(expected))) {
-                return ExecutionOutcome.failure("Wrong Answer", outcome.timeSeconds(), "Expected '%s' but got '%s'".formatted(expected, outcome.output()));
+    private boolean resolvedBefore(ExecutionOutcome[] outcomes, int limit) {
+        for (int i = 0; i < limit; i++) {
+            if (outcomes[i] == null) {
+                return false;
             }
+        }
+        return true;
+    }
 
-            return ExecutionOutcome.success(outcome.timeSeconds());
+    private ExecutionOutcome runSingleTest(Workspace workspace, CachedProblem problem, CachedTestCase testCase) {
+        try {
+            CheckContext context = new CheckContext(
+                    testCase.input(),
+                    testCase.expectedOutput(),
+                    problem.checkerProgram(),
+                    problem.floatTolerance() != null ? problem.floatTolerance() : floatTolerance,
+                    workspace.outputDirectory());
+            return executeInWorkspace(workspace, false, new CheckRun(outputCheckers.get(problem.checkerMode()), context),
+                    limitsFor(problem, workspace.runtime()));
         } catch (IOException e) {
             log.warn("Execution failed due to IO error", e);
             return ExecutionOutcome.failure("System Error", 0.0, e.getMessage());
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             return ExecutionOutcome.failure("System Error", 0.0, "Execution interrupted");
-        } finally {
-            if (workDir != null) {
-                FileSystemUtils.deleteRecursively(workDir.toFile());
-            }
         }
     }
 
-    private ExecutionOutcome execute(List<String> command, Path workDir, String input, boolean setWorkingDirectory) throws IOException, InterruptedException {
-        Instant start = Instant.now();
-        ProcessBuilder builder = new ProcessBuilder(command);
-        if (setWorkingDirectory) {
-            builder.directory(workDir.toFile());
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.debug("Failed to delete {}", path, e);
         }
-        builder.redirectErrorStream(false);
-        Process process = builder.start();
-        try (OutputStream stdin = process.getOutputStream()) {
-            stdin.write(input.getBytes(StandardCharsets.UTF_8));
-            stdin.flush();
+    }
+
+    private ResourceLimits limitsFor(CachedProblem problem, LanguageRuntime runtime) {
+        long baseTimeMillis = problem.timeLimitMillis() != null ? problem.timeLimitMillis() : defaultTimeLimitMillis;
+        Duration cpuTime = Duration.ofMillis(Math.round(baseTimeMillis * runtime.timeMultiplier()));
+        long memoryMb = problem.memoryLimitMb() != null ? problem.memoryLimitMb() : defaultMemoryLimitMb;
+        int maxProcesses = problem.pidsLimit() != null ? problem.pidsLimit() : defaultMaxProcesses;
+        long outputBytes = problem.outputLimitKb() != null ? problem.outputLimitKb() * 1024L : outputLimitBytes;
+        return new ResourceLimits(cpuTime, wallTimeFor(cpuTime), memoryMb * 1024, maxProcesses, outputBytes);
+    }
+
+    private ResourceLimits compileLimits() {
+        Duration cpuTime = Duration.ofMillis(compileTimeLimitMillis);
+        return new ResourceLimits(cpuTime, wallTimeFor(cpuTime), compileMemoryLimitMb * 1024, compileMaxProcesses,
+                compileFileSizeMb * 1024 * 1024);
+    }
+
+    private int testConcurrency() {
+        return testExecutor == null ? 1 : testExecutor.getMaximumPoolSize();
+    }
+
+    private Duration wallTimeFor(Duration cpuTime) {
+        return Duration.ofMillis(Math.round(cpuTime.toMillis() * wallTimeFactor));
+    }
+
+    private ExecutionOutcome executeInWorkspace(Workspace workspace, boolean compileStep, CheckRun check, ResourceLimits limits) throws IOException, InterruptedException {
+        LanguageRuntime runtime = workspace.runtime();
+        List<String> localCommand = compileStep ? runtime.compileCommand() : runtime.runCommand();
+        if (!dockerEnabled) {
+            return executeLocally(localCommand, workspace, compileStep, check, limits);
         }
-        boolean finished = process.waitFor(10, java.util.concurrent.TimeUnit.SECONDS);
-        if (!finished) {
-            process.destroyForcibly();
-            return ExecutionOutcome.failure("Time Limit Exceeded", Duration.between(start, Instant.now()).toMillis() / 1000.0, "Execution exceeded time limit");
+
+        PooledContainer container = workspace.container();
+        ExecutionOutcome outcome;
+        try {
+            if (container != null) {
+                container.prepare(compileStep, compileStep ? limits : limits.forConcurrentRuns(testConcurrency()));
+                List<String> command = compileStep ? runtime.compileCommand() : runtime.containerRunCommand();
+                outcome = execute(container.exec(runtime.containerEnvironment(), ContainerLauncher.wrap(command, limits)),
+                        workspace, check, limits, null, true, true);
+                if ("Time Limit Exceeded".equals(outcome.verdict())) {
+                    container.markTainted();
+                } else if (!outcome.success() && !isSystemError(outcome) && !container.isHealthy()) {
+                    container.markTainted();
+                    outcome = ExecutionOutcome.failure("System Error", outcome.timeSeconds(),
+                            "Sandbox container " + container.getName() + " stopped during execution");
+                }
+            } else {
+                outcome = executeInContainer(workspace, compileStep, check, limits);
+            }
+        } catch (IOException e) {
+            outcome = ExecutionOutcome.failure("System Error", 0.0, e.getMessage());
+        } catch (InterruptedException e) {
+            if (container != null) {
+                container.markTainted();
+            }
+            throw e;
         }
-        int exitCode = process.exitValue();
-        String stdout = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8).trim();
-        double elapsed = Duration.between(start, Instant.now()).toMillis() / 1000.0;
-        if (exitCode != 0) {
-            String stderr = new String(process.getErrorStream().readAllBytes(), StandardCharsets.UTF_8);
-            log.warn("Execution command {} failed with exit code {}: {}", command, exitCode, stderr);
-            return ExecutionOutcome.failure("System Error", elapsed, stderr);
+        if (isSystemError(outcome)) {
+            if (container != null) {
+                container.markTainted();
+            }
+            if (containerPool.isDockerAvailable()) {
+                log.warn("Docker execution failed: {}", outcome.message());
+                return outcome;
+            }
+            log.warn("Docker is unavailable, falling back to local runtime: {}", outcome.message());
+            outcome = executeLocally(localCommand, workspace, compileStep, check, limits).asFallback();
         }
-        return new ExecutionOutcome(true, "Accepted", elapsed, null, stdout);
+        return outcome;
     }
 
-    private String normalizeLineEndings(String input) {
-        return input.replace("\r\n", "\n").trim();
+    private ExecutionOutcome executeInContainer(Workspace workspace, boolean compileStep, CheckRun check, ResourceLimits limits)
+            throws IOException, InterruptedException {
+        String name = "judge-run-" + UUID.randomUUID();
+        ExecutionOutcome outcome = null;
+        try {
+            outcome = execute(dockerCommand(name, workspace, compileStep, limits), workspace, check, limits, null, false, true);
+            return outcome;
+        } finally {
+            if (outcome == null || !outcome.success()) {
+                removeContainer(name);
+            }
+        }
     }
 
-    private LanguageRuntime resolveRuntime(String language) {
-        String normalized = Optional.ofNullable(language).orElse("").toLowerCase(Locale.ROOT);
-        return switch (normalized) {
-            case "python", "py", "python3" -> LanguageRuntime.PYTHON;
-            case "javascript", "js", "node" -> LanguageRuntime.NODE;
-            default -> LanguageRuntime.UNSUPPORTED;
-        };
+    private void removeContainer(String name) {
+        boolean interrupted = Thread.interrupted();
+        try {
+            Process process = new ProcessBuilder("docker", "rm", "-f", name)
+                    .redirectErrorStream(true)
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .start();
+            if (!process.waitFor(CONTAINER_REMOVE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+                log.warn("Timed out removing container {}", name);
+            }
+        } catch (IOException e) {
+            log.warn("Failed to remove container {}: {}", name, e.getMessage());
+        } catch (InterruptedException e) {
+            interrupted = true;
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
     }
 
-    private enum LanguageRuntime {
-        PYTHON("Main.py", List.of("python3", "Main.py"), List.of("python3", "/workspace/Main.py")),
-        NODE("Main.js", List.of("node", "Main.js"), List.of("node", "/workspace/Main.js")),
-        UNSUPPORTED("Main.txt", List.of(), List.of());
+    private List<String> dockerCommand(String name, Workspace workspace, boolean compileStep, ResourceLimits limits) {
+        List<String> command = new ArrayList<>();
+        command.addAll(List.of(
+                "docker", "run", "--rm", "-i",
+                "--name", name,
+                "--network", "none",
+                "-v", workspace.directory().toAbsolutePath() + ":/workspace" + (compileStep ? "" : ":ro"),
+                "-w", "/workspace",
+                "--memory", limits.memoryKb() + "k",
+                "--memory-swap", limits.memoryKb() + "k",
+                "--pids-limit", Integer.toString(limits.maxProcesses()),
+                "--cpus", "1"
+        ));
+        LanguageRuntime runtime = workspace.runtime();
+        if (compileStep && runtime.cacheDirectory() != null) {
+            command.addAll(List.of("-v", runtime.cacheDirectory() + ":" + LanguageRuntime.CONTAINER_CACHE_DIRECTORY));
+        }
+        runtime.containerEnvironment().forEach((variable, value) -> command.addAll(List.of("-e", variable + "=" + value)));
+        command.add(containerPool.imageId());
+        command.addAll(ContainerLauncher.wrap(compileStep ? runtime.compileCommand() : runtime.containerRunCommand(),
+                limits));
+        return command;
+    }
 
-        private final String sourceFile;
-        private final List<String> localCommand;
-        private final List<String> containerCommand;
+    private ExecutionOutcome executeLocally(List<String> command, Workspace workspace, boolean compileStep, CheckRun check,
+                                            ResourceLimits limits) throws IOException, InterruptedException {
+        if (!nativeSandbox.isAvailable()) {
+            return execute(nativeSandbox.limitFileSize(command, limits), workspace, check, limits, null, true, false);
+        }
+        Path writable = compileStep ? workspace.runtime().cacheDirectory() : null;
+        try (SandboxCell cell = nativeSandbox.create(limits, workspace.directory(), writable)) {
+            return execute(cell.wrap(command), workspace, check, limits, cell, true, false);
+        }
+    }
 
-        LanguageRuntime(String sourceFile, List<String> localCommand, List<String> containerCommand) {
-            this.sourceFile = sourceFile;
-            this.localCommand = localCommand;
-            this.containerCommand = containerCommand;
+    private ExecutionOutcome execute(List<String> command, Workspace workspace, CheckRun check, ResourceLimits limits,
+                                     SandboxCell cell, boolean setWorkingDirectory, boolean containerised)
+            throws IOException, InterruptedException {
+        Path input = check != null ? check.context().input() : null;
+        ProcessBuilder builder = new ProcessBuilder(command);
+        if (!containerised) {
+            builder.environment().putAll(workspace.runtime().environment());
+        }
+        if (setWorkingDirectory) {
+            builder.directory(workspace.directory().toFile());
         }
+        Path errors = Files.createTempFile(workspace.outputDirectory(), "stderr-", ".txt");
+        Path output = check != null ? Files.createTempFile(workspace.outputDirectory(), "stdout-", ".txt") : null;
+        builder.redirectError(errors.toFile());
+        builder.redirectInput(input != null ? ProcessBuilder.Redirect.from(input.toFile()) : ProcessBuilder.Redirect.PIPE);
+        builder.redirectOutput(output != null ? ProcessBuilder.Redirect.to(output.toFile()) : ProcessBuilder.Redirect.DISCARD);
+        try (CheckSession session = check != null ? check.checker().open(check.context()) : null) {
+            ProcessResult result = await(processSupervisor.start(builder, output, session == null ? null : session::accept,
+                    containerised ? limits.wallClockOnly() : limits, cell));
+            if (containerised) {
+                result = withReportedUsage(result, errors, limits);
+            }
+            if (check != null) {
+                metrics.recordTestRun(workspace.runtime(), result.elapsedSeconds());
+            }
+            return interpret(command, result, session, errors, limits, cell, containerised)
+                    .withUsage(result.cpuSeconds(), result.peakMemoryKb());
+        } finally {
+            deleteQuietly(errors);
+            if (output != null) {
+                deleteQuietly(output);
+            }
+        }
+    }
 
-        String sourceFile() {
-            return sourceFile;
+    private ProcessResult withReportedUsage(ProcessResult result, Path errors, ResourceLimits limits) throws IOException {
+        Optional<ContainerLauncher.Usage> reported = ContainerLauncher.usageIn(readTail(errors));
+        if (reported.isEmpty()) {
+            return result;
         }
+        ContainerLauncher.Usage usage = reported.get();
+        ProcessResult.Termination termination = result.termination();
+        if (termination == ProcessResult.Termination.EXITED) {
+            if (limits.memoryKb() > 0 && usage.peakMemoryKb() > limits.memoryKb()) {
+                termination = ProcessResult.Termination.MEMORY_LIMIT_EXCEEDED;
+            } else if (limits.cpuTime() != null && usage.cpuSeconds() * 1000 > limits.cpuTime().toMillis()) {
+                termination = ProcessResult.Termination.TIMED_OUT;
+            }
+        }
+        return new ProcessResult(termination, result.exitCode(), result.elapsedSeconds(), usage.cpuSeconds(),
+                usage.peakMemoryKb());
+    }
 
-        List<String> localCommand() {
-            if (this == UNSUPPORTED) {
-                throw new UnsupportedOperationException("Language is not supported");
+    private ExecutionOutcome interpret(List<String> command, ProcessResult result, CheckSession session, Path errors,
+                                       ResourceLimits limits, SandboxCell cell, boolean containerised)
+            throws IOException, InterruptedException {
+        double elapsed = result.elapsedSeconds();
+        switch (result.termination()) {
+            case OUTPUT_LIMIT_EXCEEDED -> {
+                return ExecutionOutcome.failure("Output Limit Exceeded", elapsed, "Output exceeded " + limits.outputBytes() + " bytes");
             }
-            return localCommand;
+            case TIMED_OUT -> {
+                return ExecutionOutcome.failure("Time Limit Exceeded", elapsed, "Execution exceeded time limit");
+            }
+            case MEMORY_LIMIT_EXCEEDED -> {
+                return ExecutionOutcome.failure("Memory Limit Exceeded", elapsed, "Peak memory reached " + result.peakMemoryKb() + " KB");
+            }
+            case REJECTED -> {
+                CheckResult rejection = finish(session);
+                return ExecutionOutcome.failure(rejection.verdict(), elapsed, rejection.message());
+            }
+            default -> {
+            }
+        }
+        if (containerised && result.exitCode() == CONTAINER_OOM_EXIT_CODE) {
+            return ExecutionOutcome.failure("Memory Limit Exceeded", elapsed, "Killed by the container memory limit");
         }
+        if (result.exitCode() != 0) {
+            String stderr = ContainerLauncher.strip(LaunchMarker.strip(readTail(errors)));
+            if (containerised ? !LaunchMarker.presentIn(errors) : cell != null && cell.setupFailed(errors)) {
+                log.warn("Execution command {} failed with exit code {}: {}", command, result.exitCode(), stderr);
+                return ExecutionOutcome.failure("System Error", elapsed, stderr);
+            }
+            String message = stderr.isBlank() ? "Exited with code " + result.exitCode() : stderr;
+            return ExecutionOutcome.failure(session != null ? "Runtime Error" : "Compile Error", elapsed, message);
+        }
+        if (session != null) {
+            CheckResult verdict = finish(session);
+            if (!verdict.accepted()) {
+                return ExecutionOutcome.failure(verdict.verdict(), elapsed, verdict.message());
+            }
+        }
+        return ExecutionOutcome.success(elapsed);
+    }
 
-        List<String> dockerCommand(Path workDir, String image) {
-            if (this == UNSUPPORTED) {
-                throw new UnsupportedOperationException("Language is not supported");
+    private CheckResult finish(CheckSession session) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        try {
+            return session.finish();
+        } finally {
+            metrics.recordCheck(System.nanoTime() - start);
+        }
+    }
+
+    private ProcessResult await(CompletableFuture<ProcessResult> execution) throws IOException, InterruptedException {
+        try {
+            return execution.get();
+        } catch (InterruptedException e) {
+            execution.cancel(true);
+            throw e;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
             }
-            List<String> command = new java.util.ArrayList<>();
-            command.addAll(List.of(
-                    "docker", "run", "--rm", "-i",
-                    "--network", "none",
-                    "-v", workDir.toAbsolutePath() + ":/workspace",
-                    "--memory", "256m",
-                    "--cpus", "1",
-                    image
-            ));
-            command.addAll(containerCommand);
-            return command;
+            throw new IOException("Process supervision failed", e.getCause());
         }
     }
 
-    public record ExecutionSummary(boolean accepted, double timeSeconds, String verdict, Double score, String message) {
-        public static ExecutionSummary accepted(double timeSeconds, String verdict) {
-            return new ExecutionSummary(true, timeSeconds, verdict, 1.0, null);
+    private String readTail(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            ByteBuffer tail = ByteBuffer.allocate((int) Math.min(size, STDERR_TAIL_BYTES));
+            channel.read(tail, size - tail.capacity());
+            return new String(tail.array(), 0, tail.position(), StandardCharsets.UTF_8);
         }
+    }
 
-        public static ExecutionSummary accepted(double timeSeconds, String verdict, double score) {
-            return new ExecutionSummary(true, timeSeconds, verdict, score, null);
+    private record Workspace(Path directory, Path outputDirectory, LanguageRuntime runtime, PooledContainer container) {
+    }
+
+    public record ExecutionSummary(boolean accepted, double timeSeconds, String verdict, Double score, String message,
+                                   double compileTimeSeconds, double cpuTimeSeconds, long peakMemoryKb) {
+        public static ExecutionSummary accepted(double timeSeconds, String verdict) {
+            return new ExecutionSummary(true, timeSeconds, verdict, 1.0, null, 0.0, 0.0, 0);
         }
 
         public static ExecutionSummary failed(String verdict, double timeSeconds, String message) {
-            return new ExecutionSummary(false, timeSeconds, verdict, 0.0, message);
+            return new ExecutionSummary(false, timeSeconds, verdict, 0.0, message, 0.0, 0.0, 0);
+        }
+
+        public ExecutionSummary withCompileTime(double compileTimeSeconds) {
+            return new ExecutionSummary(accepted, timeSeconds, verdict, score, message, compileTimeSeconds, cpuTimeSeconds, peakMemoryKb);
+        }
+
+        public ExecutionSummary withUsage(double cpuTimeSeconds, long peakMemoryKb) {
+            return new ExecutionSummary(accepted, timeSeconds, verdict, score, message, compileTimeSeconds, cpuTimeSeconds, peakMemoryKb);
+        }
+
+        public ExecutionSummary withScore(double score) {
+            return new ExecutionSummary(accepted, timeSeconds, verdict, score, message, compileTimeSeconds, cpuTimeSeconds, peakMemoryKb);
         }
     }
 
-    private record ExecutionOutcome(boolean success, String verdict, double timeSeconds, String message, String output) {
+    private record CheckRun(OutputChecker checker, CheckContext context) {
+    }
+
+    private record ExecutionOutcome(boolean success, String verdict, double timeSeconds, String message,
+                                    double cpuSeconds, long peakMemoryKb, boolean fallback) {
         static ExecutionOutcome success(double timeSeconds) {
-            return new ExecutionOutcome(true, "Accepted", timeSeconds, null, null);
+            return new ExecutionOutcome(true, "Accepted", timeSeconds, null, 0.0, 0, false);
         }
 
         static ExecutionOutcome failure(String verdict, double timeSeconds, String message) {
-            return new ExecutionOutcome(false, verdict, timeSeconds, message, null);
+            return new ExecutionOutcome(false, verdict, timeSeconds, message, 0.0, 0, false);
+        }
+
+        ExecutionOutcome withUsage(double cpuSeconds, long peakMemoryKb) {
+            return new ExecutionOutcome(success, verdict, timeSeconds, message, cpuSeconds, peakMemoryKb, fallback);
         }
 
-        public String output() {
-            return output == null ? "" : output;
+        ExecutionOutcome asFallback() {
+            return new ExecutionOutcome(success, verdict, timeSeconds, message, cpuSeconds, peakMemoryKb, true);
         }
     }
 }
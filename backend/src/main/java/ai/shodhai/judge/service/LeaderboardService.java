@@ -1,58 +1,243 @@
 package ai.shodhai.judge.service;
 
-import ai.shodhai.judge.domain.Submission;
+import ai.shodhai.judge.config.ConditionalOnApiRole;
+import ai.shodhai.judge.domain.Contest;
+import ai.shodhai.judge.domain.ScoringMode;
 import ai.shodhai.judge.domain.SubmissionStatus;
 import ai.shodhai.judge.dto.LeaderboardEntryResponse;
+import ai.shodhai.judge.repository.ContestRepository;
+import ai.shodhai.judge.repository.PenalizedAttemptRow;
+import ai.shodhai.judge.repository.ProblemResultRow;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Service
+@ConditionalOnApiRole
 public class LeaderboardService {
 
+    private static final Logger log = LoggerFactory.getLogger(LeaderboardService.class);
+    private static final Set<SubmissionStatus> PENALIZED = Set.of(SubmissionStatus.WRONG_ANSWER, SubmissionStatus.RUNTIME_ERROR,
+            SubmissionStatus.TIME_LIMIT_EXCEEDED, SubmissionStatus.MEMORY_LIMIT_EXCEEDED, SubmissionStatus.OUTPUT_LIMIT_EXCEEDED);
+    private static final Comparator<Standing> RANKING = Comparator
+            .comparingDouble(Standing::score).reversed()
+            .thenComparingDouble(Standing::time)
+            .thenComparing(Standing::username);
+    private static final Comparator<Attempt> ATTEMPT_ORDER = Comparator
+            .comparing(Attempt::submittedAt)
+            .thenComparing(Attempt::submissionId, Comparator.nullsFirst(Comparator.naturalOrder()));
+
     private final SubmissionService submissionService;
+    private final ContestRepository contestRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ScoringMode defaultScoringMode;
+    private final long penaltySeconds;
+    private final Map<String, ContestBoard> boards = new ConcurrentHashMap<>();
 
-    public LeaderboardService(SubmissionService submissionService) {
+    public LeaderboardService(SubmissionService submissionService,
+                              ContestRepository contestRepository,
+                              ApplicationEventPublisher eventPublisher,
+                              @Value("${judge.leaderboard.scoring-mode:ICPC}") ScoringMode defaultScoringMode,
+                              @Value("${judge.leaderboard.icpc-penalty-minutes:20}") long penaltyMinutes) {
         this.submissionService = submissionService;
+        this.contestRepository = contestRepository;
+        this.eventPublisher = eventPublisher;
+        this.defaultScoringMode = defaultScoringMode;
+        this.penaltySeconds = Duration.ofMinutes(penaltyMinutes).toSeconds();
+    }
+
+    @PostConstruct
+    public void rebuild() {
+        Map<String, ContestBoard> rebuilt = new HashMap<>();
+        for (Contest contest : contestRepository.findAll()) {
+            rebuilt.put(contest.getId(), loadBoard(contest.getId(), contest));
+        }
+        boards.clear();
+        boards.putAll(rebuilt);
+        log.info("Rebuilt leaderboards for {} contests", rebuilt.size());
+    }
+
+    @EventListener
+    public void onSubmissionJudged(SubmissionJudgedEvent event) {
+        if (event.sampleOnly()) {
+            return;
+        }
+        LeaderboardEntryResponse entry = board(event.contestId()).record(event);
+        eventPublisher.publishEvent(new LeaderboardUpdatedEvent(event.contestId(), entry));
+    }
+
+    public List<LeaderboardEntryResponse> getLeaderboard(String contestId, int page, int size) {
+        ContestBoard board = boards.get(contestId);
+        if (board == null) {
+            return List.of();
+        }
+        return board.page(page, size);
     }
 
-    public List<LeaderboardEntryResponse> getLeaderboard(String contestId) {
-        List<Submission> submissions = submissionService.findByContest(contestId);
-        Map<String, LeaderboardAccumulator> accumulatorMap = new HashMap<>();
+    public String getLeaderboardTag(String contestId) {
+        ContestBoard board = boards.get(contestId);
+        return board == null ? "empty" : board.createdAt + "-" + board.revision;
+    }
 
-        for (Submission submission : submissions) {
-            String username = submission.getUser().getUsername();
-            LeaderboardAccumulator accumulator = accumulatorMap.computeIfAbsent(username, key -> new LeaderboardAccumulator(username));
-            if (submission.getStatus() == SubmissionStatus.ACCEPTED) {
-                accumulator.score += 1.0;
-                accumulator.time += submission.getExecutionTime() != null ? submission.getExecutionTime() : 0.0;
+    private ContestBoard board(String contestId) {
+        ContestBoard board = boards.get(contestId);
+        if (board != null) {
+            return board;
+        }
+        ContestBoard created = loadBoard(contestId, contestRepository.findById(contestId).orElse(null));
+        ContestBoard existing = boards.putIfAbsent(contestId, created);
+        return existing != null ? existing : created;
+    }
+
+    private ContestBoard loadBoard(String contestId, Contest contest) {
+        ScoringMode mode = contest == null || contest.getScoringMode() == null ? defaultScoringMode : contest.getScoringMode();
+        ContestBoard board = new ContestBoard(mode, contest == null ? null : contest.getStartTime());
+        board.load(submissionService.summarizeProblemResults(contestId, PENALIZED),
+                submissionService.findPenalizedAttempts(contestId, PENALIZED));
+        return board;
+    }
+
+    private record Standing(String username, double score, double time) {
+    }
+
+    private record Attempt(Instant submittedAt, UUID submissionId) {
+    }
+
+    private static class ProblemState {
+        private final TreeSet<Attempt> penalizedAttempts = new TreeSet<>(ATTEMPT_ORDER);
+        private Instant firstAcceptedAt;
+        private double bestScore;
+        private Double fastestTime;
+
+        private void accept(Instant submittedAt) {
+            if (firstAcceptedAt != null && !submittedAt.isBefore(firstAcceptedAt)) {
+                return;
             }
+            firstAcceptedAt = submittedAt;
+            penalizedAttempts.tailSet(new Attempt(submittedAt, null), true).clear();
         }
 
-        List<LeaderboardAccumulator> sorted = new ArrayList<>(accumulatorMap.values());
-        sorted.sort(Comparator
-                .comparingDouble((LeaderboardAccumulator entry) -> entry.score).reversed()
-                .thenComparingDouble(entry -> entry.time));
+        private void penalize(Attempt attempt) {
+            if (firstAcceptedAt == null || attempt.submittedAt().isBefore(firstAcceptedAt)) {
+                penalizedAttempts.add(attempt);
+            }
+        }
 
-        List<LeaderboardEntryResponse> response = new ArrayList<>();
-        int rank = 1;
-        for (LeaderboardAccumulator entry : sorted) {
-            response.add(new LeaderboardEntryResponse(entry.username, entry.score, entry.time, rank++));
+        private long wrongAttempts() {
+            return penalizedAttempts.size();
         }
-        return response;
     }
 
-    private static class LeaderboardAccumulator {
-        private final String username;
-        private double score = 0.0;
-        private double time = 0.0;
+    private class ContestBoard {
+        private final ScoringMode mode;
+        private final Instant startTime;
+        private final Map<String, Map<String, ProblemState>> problemsByUser = new HashMap<>();
+        private final Map<String, Standing> standings = new HashMap<>();
+        private final RankedSkipList<Standing> ranking = new RankedSkipList<>(RANKING);
+        private final long createdAt = System.currentTimeMillis();
+        private volatile long revision;
 
-        private LeaderboardAccumulator(String username) {
-            this.username = username;
+        private ContestBoard(ScoringMode mode, Instant startTime) {
+            this.mode = mode;
+            this.startTime = startTime;
+        }
+
+        private synchronized void load(List<ProblemResultRow> rows, List<PenalizedAttemptRow> attempts) {
+            for (ProblemResultRow row : rows) {
+                ProblemState state = problemState(row.getUsername(), row.getProblemId());
+                state.firstAcceptedAt = row.getFirstAcceptedAt();
+                state.bestScore = row.getBestScore();
+                state.fastestTime = row.getFastestTime();
+            }
+            for (PenalizedAttemptRow attempt : attempts) {
+                problemState(attempt.getUsername(), attempt.getProblemId())
+                        .penalize(new Attempt(attempt.getSubmittedAt(), attempt.getSubmissionId()));
+            }
+            for (String username : problemsByUser.keySet()) {
+                restand(username);
+            }
+        }
+
+        private synchronized LeaderboardEntryResponse record(SubmissionJudgedEvent event) {
+            ProblemState state = problemState(event.username(), event.problemId());
+            if (event.status() == SubmissionStatus.ACCEPTED) {
+                state.accept(event.submittedAt());
+                if (event.executionTime() != null && (state.fastestTime == null || event.executionTime() < state.fastestTime)) {
+                    state.fastestTime = event.executionTime();
+                }
+            } else if (PENALIZED.contains(event.status())) {
+                state.penalize(new Attempt(event.submittedAt(), event.submissionId()));
+            }
+            if (event.score() != null) {
+                state.bestScore = Math.max(state.bestScore, event.score());
+            }
+            Standing standing = restand(event.username());
+            return new LeaderboardEntryResponse(standing.username(), standing.score(), standing.time(),
+                    ranking.position(standing));
+        }
+
+        private ProblemState problemState(String username, String problemId) {
+            return problemsByUser.computeIfAbsent(username, key -> new HashMap<>())
+                    .computeIfAbsent(problemId, key -> new ProblemState());
+        }
+
+        private Standing restand(String username) {
+            double score = 0.0;
+            double time = 0.0;
+            for (ProblemState state : problemsByUser.get(username).values()) {
+                if (mode == ScoringMode.IOI) {
+                    score += state.bestScore * 100.0;
+                    time += state.fastestTime != null ? state.fastestTime : 0.0;
+                } else if (state.firstAcceptedAt != null) {
+                    score += 1.0;
+                    time += elapsedMinutes(state.firstAcceptedAt) * 60.0 + state.wrongAttempts() * penaltySeconds;
+                }
+            }
+            Standing standing = new Standing(username, score, time);
+            Standing previous = standings.put(username, standing);
+            if (previous != null) {
+                ranking.remove(previous);
+            }
+            ranking.add(standing);
+            revision++;
+            return standing;
+        }
+
+        private long elapsedMinutes(Instant acceptedAt) {
+            if (startTime == null || acceptedAt.isBefore(startTime)) {
+                return 0;
+            }
+            return Duration.between(startTime, acceptedAt).toMinutes();
+        }
+
+        private synchronized List<LeaderboardEntryResponse> page(int page, int size) {
+            long from = (long) page * size;
+            if (from >= ranking.size()) {
+                return List.of();
+            }
+            List<Standing> standings = ranking.range((int) from, size);
+            List<LeaderboardEntryResponse> entries = new ArrayList<>(standings.size());
+            int rank = (int) from + 1;
+            for (Standing standing : standings) {
+                entries.add(new LeaderboardEntryResponse(standing.username(), standing.score(), standing.time(), rank++));
+            }
+            return entries;
         }
     }
 }
@@ -0,0 +1,6 @@
+package ai.shodhai.judge.service;
+
+import ai.shodhai.judge.dto.LeaderboardEntryResponse;
+
+public record LeaderboardUpdatedEvent(String contestId, LeaderboardEntryResponse entry) {
+}
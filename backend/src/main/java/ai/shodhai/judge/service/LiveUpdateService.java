@@ -0,0 +1,242 @@
+package ai.shodhai.judge.service;
+
+import ai.shodhai.judge.config.ConditionalOnApiRole;
+import ai.shodhai.judge.domain.SubmissionStatus;
+import ai.shodhai.judge.dto.SubmissionStatusResponse;
+import ai.shodhai.judge.repository.SubmissionStatusView;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+@Service
+@ConditionalOnApiRole
+public class LiveUpdateService {
+
+    private static final Logger log = LoggerFactory.getLogger(LiveUpdateService.class);
+    private static final String STATUS_EVENT = "status";
+    private static final String LEADERBOARD_EVENT = "leaderboard";
+
+    private final long emitterTimeoutMillis;
+    private final int subscriberQueueSize;
+    private final Map<UUID, Set<Subscription>> submissionSubscribers = new ConcurrentHashMap<>();
+    private final Map<String, Set<Subscription>> leaderboardSubscribers = new ConcurrentHashMap<>();
+    private final ExecutorService dispatcher;
+
+    public LiveUpdateService(@Value("${judge.events.emitter-timeout-ms:1800000}") long emitterTimeoutMillis,
+                             @Value("${judge.events.dispatch-threads:4}") int dispatchThreads,
+                             @Value("${judge.events.subscriber-queue-size:64}") int subscriberQueueSize) {
+        this.emitterTimeoutMillis = emitterTimeoutMillis;
+        this.subscriberQueueSize = Math.max(1, subscriberQueueSize);
+        AtomicInteger sequence = new AtomicInteger();
+        this.dispatcher = Executors.newFixedThreadPool(Math.max(1, dispatchThreads), runnable -> {
+            Thread thread = new Thread(runnable, "live-updates-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public SseEmitter subscribeToSubmission(UUID submissionId, Supplier<SubmissionStatusView> loader) {
+        Subscription subscription = register(submissionSubscribers, submissionId);
+        SubmissionStatusView submission;
+        try {
+            submission = loader.get();
+        } catch (RuntimeException e) {
+            unregister(submissionSubscribers, submissionId, subscription);
+            throw e;
+        }
+        SubmissionStatus status = submission.getStatus();
+        SubmissionStatusResponse response = new SubmissionStatusResponse(
+                status.getDisplayName(), submission.getVerdict(), submission.getScore(), submission.getExecutionTime(),
+                submission.getCpuTime(), submission.getPeakMemoryKb());
+        enqueue(subscription, SseEmitter.event().name(STATUS_EVENT).data(response), status.isFinal());
+        return subscription.emitter;
+    }
+
+    public SseEmitter subscribeToLeaderboard(String contestId) {
+        return register(leaderboardSubscribers, contestId).emitter;
+    }
+
+    public int getSubscriberCount() {
+        return count(submissionSubscribers) + count(leaderboardSubscribers);
+    }
+
+    @EventListener
+    public void onSubmissionStatusChanged(SubmissionStatusChangedEvent event) {
+        SubmissionStatusResponse response = new SubmissionStatusResponse(event.status().getDisplayName(), event.verdict(), null, null, null, null);
+        publishStatus(event.submissionId(), event.status(), response);
+    }
+
+    @EventListener
+    public void onSubmissionJudged(SubmissionJudgedEvent event) {
+        SubmissionStatusResponse response = new SubmissionStatusResponse(
+                event.status().getDisplayName(), event.verdict(), event.score(), event.executionTime(),
+                event.cpuTime(), event.peakMemoryKb());
+        publishStatus(event.submissionId(), event.status(), response);
+    }
+
+    @EventListener
+    public void onLeaderboardUpdated(LeaderboardUpdatedEvent event) {
+        Set<Subscription> subscriptions = leaderboardSubscribers.get(event.contestId());
+        if (subscriptions == null) {
+            return;
+        }
+        for (Subscription subscription : subscriptions) {
+            enqueue(subscription, SseEmitter.event().name(LEADERBOARD_EVENT).data(event.entry()), false);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${judge.events.heartbeat-interval-ms:15000}")
+    public void sendHeartbeats() {
+        heartbeat(submissionSubscribers);
+        heartbeat(leaderboardSubscribers);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+        submissionSubscribers.values().forEach(subscriptions -> subscriptions.forEach(Subscription::complete));
+        leaderboardSubscribers.values().forEach(subscriptions -> subscriptions.forEach(Subscription::complete));
+    }
+
+    private void publishStatus(UUID submissionId, SubmissionStatus status, SubmissionStatusResponse response) {
+        Set<Subscription> subscriptions = submissionSubscribers.get(submissionId);
+        if (subscriptions == null) {
+            return;
+        }
+        for (Subscription subscription : subscriptions) {
+            enqueue(subscription, SseEmitter.event().name(STATUS_EVENT).data(response), status.isFinal());
+        }
+    }
+
+    private <K> Subscription register(Map<K, Set<Subscription>> subscribers, K key) {
+        Subscription subscription = new Subscription(new SseEmitter(emitterTimeoutMillis), subscriberQueueSize);
+        Runnable cleanup = () -> unregister(subscribers, key, subscription);
+        subscription.cleanup = cleanup;
+        subscription.emitter.onCompletion(cleanup);
+        subscription.emitter.onTimeout(cleanup);
+        subscription.emitter.onError(error -> cleanup.run());
+        subscribers.computeIfAbsent(key, ignored -> ConcurrentHashMap.newKeySet()).add(subscription);
+        return subscription;
+    }
+
+    private <K> void unregister(Map<K, Set<Subscription>> subscribers, K key, Subscription subscription) {
+        subscription.closed = true;
+        subscribers.computeIfPresent(key, (ignored, subscriptions) -> {
+            subscriptions.remove(subscription);
+            return subscriptions.isEmpty() ? null : subscriptions;
+        });
+    }
+
+    private void enqueue(Subscription subscription, SseEmitter.SseEventBuilder event, boolean last) {
+        if (subscription.closed) {
+            return;
+        }
+        if (!subscription.outbox.offer(new Message(event, last))) {
+            log.debug("Closing live update subscriber that fell {} events behind", subscriberQueueSize);
+            subscription.overflowed = true;
+            subscription.cleanup.run();
+        }
+        schedule(subscription);
+    }
+
+    private void schedule(Subscription subscription) {
+        if (!subscription.draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            dispatcher.execute(() -> drain(subscription));
+        } catch (RejectedExecutionException e) {
+            subscription.draining.set(false);
+            log.debug("Dropping live update after shutdown");
+        }
+    }
+
+    private void drain(Subscription subscription) {
+        do {
+            Message message;
+            while ((message = subscription.outbox.poll()) != null) {
+                deliver(subscription, message);
+            }
+            if (subscription.overflowed && subscription.finished.compareAndSet(false, true)) {
+                subscription.outbox.clear();
+                subscription.emitter.completeWithError(new IOException("Subscriber is too slow"));
+            }
+            subscription.draining.set(false);
+        } while (!subscription.outbox.isEmpty() && subscription.draining.compareAndSet(false, true));
+    }
+
+    private void deliver(Subscription subscription, Message message) {
+        if (subscription.closed) {
+            return;
+        }
+        try {
+            subscription.emitter.send(message.event());
+        } catch (IOException | IllegalStateException e) {
+            subscription.cleanup.run();
+            if (subscription.finished.compareAndSet(false, true)) {
+                subscription.emitter.completeWithError(e);
+            }
+            return;
+        }
+        if (message.last()) {
+            subscription.cleanup.run();
+            subscription.complete();
+        }
+    }
+
+    private <K> void heartbeat(Map<K, Set<Subscription>> subscribers) {
+        subscribers.values().forEach(subscriptions -> {
+            for (Subscription subscription : subscriptions) {
+                enqueue(subscription, SseEmitter.event().comment("keep-alive"), false);
+            }
+        });
+    }
+
+    private <K> int count(Map<K, Set<Subscription>> subscribers) {
+        return subscribers.values().stream().mapToInt(Set::size).sum();
+    }
+
+    private record Message(SseEmitter.SseEventBuilder event, boolean last) {
+    }
+
+    private static class Subscription {
+        private final SseEmitter emitter;
+        private final BlockingQueue<Message> outbox;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean finished = new AtomicBoolean();
+        private Runnable cleanup;
+        private volatile boolean closed;
+        private volatile boolean overflowed;
+
+        private Subscription(SseEmitter emitter, int queueSize) {
+            this.emitter = emitter;
+            this.outbox = new ArrayBlockingQueue<>(queueSize);
+        }
+
+        private void complete() {
+            closed = true;
+            if (finished.compareAndSet(false, true)) {
+                emitter.complete();
+            }
+        }
+    }
+}
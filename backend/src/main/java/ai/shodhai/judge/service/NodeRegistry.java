@@ -0,0 +1,100 @@
+package ai.shodhai.judge.service;
+
+import ai.shodhai.judge.config.NodeRole;
+import ai.shodhai.judge.domain.JudgeNode;
+import ai.shodhai.judge.repository.JudgeNodeRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+@Component
+public class NodeRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(NodeRegistry.class);
+    private static final int SILENT_HEARTBEATS_BEFORE_REMOVAL = 10;
+
+    private final JudgeNodeRepository nodeRepository;
+    private final SubmissionQueue submissionQueue;
+    private final SubmissionProcessingService processingService;
+    private final NodeRole role;
+    private final Duration heartbeatInterval;
+    private final Instant startedAt = Instant.now();
+    private volatile boolean registered;
+
+    public NodeRegistry(JudgeNodeRepository nodeRepository,
+                        SubmissionQueue submissionQueue,
+                        SubmissionProcessingService processingService,
+                        @Value("${judge.role:ALL}") NodeRole role,
+                        @Value("${judge.queue.heartbeat-interval-ms:20000}") long heartbeatIntervalMillis) {
+        this.nodeRepository = nodeRepository;
+        this.submissionQueue = submissionQueue;
+        this.processingService = processingService;
+        this.role = role;
+        this.heartbeatInterval = Duration.ofMillis(heartbeatIntervalMillis);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void register() {
+        registered = true;
+        heartbeat();
+        log.info("Registered judge node {} as {}", submissionQueue.getNodeId(), role);
+    }
+
+    @Scheduled(fixedDelayString = "${judge.queue.heartbeat-interval-ms:20000}")
+    @Transactional
+    public synchronized void heartbeat() {
+        if (!registered) {
+            return;
+        }
+        Instant now = Instant.now();
+        JudgeNode node = nodeRepository.findById(submissionQueue.getNodeId())
+                .orElseGet(() -> new JudgeNode(submissionQueue.getNodeId(), role, startedAt));
+        List<SubmissionProcessingService.WorkerSnapshot> workers = processingService.getWorkerSnapshots();
+        node.setWorkers(workers.size());
+        node.setBusyWorkers(processingService.getBusyWorkers());
+        node.setProcessed(workers.stream().mapToLong(SubmissionProcessingService.WorkerSnapshot::processed).sum());
+        node.setLastHeartbeat(now);
+        nodeRepository.save(node);
+        int removed = nodeRepository.deleteSilentSince(now.minus(heartbeatInterval.multipliedBy(SILENT_HEARTBEATS_BEFORE_REMOVAL)));
+        if (removed > 0) {
+            log.info("Removed {} judge nodes that stopped sending heartbeats", removed);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public List<NodeSnapshot> getNodes() {
+        Instant aliveSince = Instant.now().minus(heartbeatInterval.multipliedBy(3));
+        return nodeRepository.findAllByOrderByIdAsc().stream()
+                .map(node -> new NodeSnapshot(node.getId(), node.getRole(), node.getWorkers(), node.getBusyWorkers(),
+                        node.getProcessed(), node.getStartedAt(), node.getLastHeartbeat(),
+                        node.getLastHeartbeat().isAfter(aliveSince)))
+                .toList();
+    }
+
+    @PreDestroy
+    public void deregister() {
+        if (!registered) {
+            return;
+        }
+        registered = false;
+        try {
+            nodeRepository.deleteById(submissionQueue.getNodeId());
+        } catch (RuntimeException e) {
+            log.debug("Could not deregister judge node {}: {}", submissionQueue.getNodeId(), e.getMessage());
+        }
+    }
+
+    public record NodeSnapshot(String nodeId, NodeRole role, int workers, int busyWorkers, long processed,
+                               Instant startedAt, Instant lastHeartbeat, boolean alive) {
+    }
+}
@@ -0,0 +1,120 @@
+package ai.shodhai.judge.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+
+final class ParallelTestRun<T> {
+
+    private final ThreadPoolExecutor executor;
+    private final List<Task> tasks;
+    private final BlockingQueue<Task> completed = new LinkedBlockingQueue<>();
+    private final CountDownLatch settled;
+
+    ParallelTestRun(ThreadPoolExecutor executor, int size) {
+        this.executor = executor;
+        this.tasks = new ArrayList<>(size);
+        this.settled = new CountDownLatch(size);
+    }
+
+    void submit(Callable<T> work) {
+        Task task = new Task(tasks.size(), work);
+        tasks.add(task);
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            task.reject(e);
+        }
+    }
+
+    Completed<T> take() throws InterruptedException, ExecutionException {
+        while (true) {
+            Task task = completed.take();
+            if (!task.isCancelled()) {
+                return new Completed<>(task.index, task.get());
+            }
+        }
+    }
+
+    void stopFrom(int index) {
+        for (int i = index; i < tasks.size(); i++) {
+            tasks.get(i).stop();
+        }
+    }
+
+    void stopAndAwait() {
+        stopFrom(0);
+        boolean interrupted = false;
+        while (true) {
+            try {
+                settled.await();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    record Completed<T>(int index, T value) {
+    }
+
+    private final class Task extends FutureTask<T> {
+        private final int index;
+        private Thread runner;
+
+        private Task(int index, Callable<T> work) {
+            super(work);
+            this.index = index;
+        }
+
+        @Override
+        public void run() {
+            synchronized (this) {
+                runner = Thread.currentThread();
+            }
+            try {
+                super.run();
+            } finally {
+                synchronized (this) {
+                    runner = null;
+                    Thread.interrupted();
+                }
+                settled.countDown();
+            }
+        }
+
+        @Override
+        protected void done() {
+            completed.add(this);
+        }
+
+        private void stop() {
+            if (executor.remove(this)) {
+                cancel(false);
+                settled.countDown();
+                return;
+            }
+            synchronized (this) {
+                cancel(false);
+                if (runner != null) {
+                    runner.interrupt();
+                }
+            }
+        }
+
+        private void reject(RejectedExecutionException e) {
+            setException(e);
+            settled.countDown();
+        }
+    }
+}
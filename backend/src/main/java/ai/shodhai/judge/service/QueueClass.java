@@ -0,0 +1,10 @@
+package ai.shodhai.judge.service;
+
+public enum QueueClass {
+    SAMPLE,
+    STANDARD;
+
+    public static QueueClass of(boolean sampleOnly) {
+        return sampleOnly ? SAMPLE : STANDARD;
+    }
+}
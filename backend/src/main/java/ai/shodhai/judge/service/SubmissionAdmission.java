@@ -0,0 +1,209 @@
+package ai.shodhai.judge.service;
+
+import ai.shodhai.judge.catalog.CachedProblem;
+import ai.shodhai.judge.catalog.ProblemCatalog;
+import ai.shodhai.judge.config.ConditionalOnApiRole;
+import ai.shodhai.judge.dto.SubmissionRequest;
+import ai.shodhai.judge.metrics.JudgeMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+@Component
+@ConditionalOnApiRole
+public class SubmissionAdmission {
+
+    private final SubmissionService submissionService;
+    private final ProblemCatalog problemCatalog;
+    private final JudgeMetrics metrics;
+    private final boolean enabled;
+    private final long maxSourceBytes;
+    private final long maxQueueDepth;
+    private final Duration queueRetryAfter;
+    private final BucketSpec userSpec;
+    private final BucketSpec contestSpec;
+    private final long idleNanos;
+    private final int maxUserBuckets;
+    private final AtomicLong queueDepth = new AtomicLong();
+    private final Map<String, TokenBucket> userBuckets = new ConcurrentHashMap<>();
+    private final Map<String, TokenBucket> contestBuckets = new ConcurrentHashMap<>();
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder rejectedSize = new LongAdder();
+    private final LongAdder rejectedRate = new LongAdder();
+    private final LongAdder rejectedQueue = new LongAdder();
+
+    public SubmissionAdmission(SubmissionService submissionService,
+                               ProblemCatalog problemCatalog,
+                               JudgeMetrics metrics,
+                               @Value("${judge.admission.enabled:true}") boolean enabled,
+                               @Value("${judge.admission.max-source-kb:64}") long maxSourceKb,
+                               @Value("${judge.admission.max-queue-depth:1000}") long maxQueueDepth,
+                               @Value("${judge.admission.queue-retry-after-seconds:10}") long queueRetryAfterSeconds,
+                               @Value("${judge.admission.user.capacity:5}") int userCapacity,
+                               @Value("${judge.admission.user.refill-per-minute:10}") double userRefillPerMinute,
+                               @Value("${judge.admission.contest.capacity:200}") int contestCapacity,
+                               @Value("${judge.admission.contest.refill-per-minute:600}") double contestRefillPerMinute,
+                               @Value("${judge.admission.idle-bucket-minutes:30}") long idleBucketMinutes,
+                               @Value("${judge.admission.max-user-buckets:100000}") int maxUserBuckets) {
+        this.submissionService = submissionService;
+        this.problemCatalog = problemCatalog;
+        this.metrics = metrics;
+        this.enabled = enabled;
+        this.maxSourceBytes = maxSourceKb * 1024;
+        this.maxQueueDepth = maxQueueDepth;
+        this.queueRetryAfter = Duration.ofSeconds(Math.max(1, queueRetryAfterSeconds));
+        this.userSpec = new BucketSpec(userCapacity, userRefillPerMinute);
+        this.contestSpec = new BucketSpec(contestCapacity, contestRefillPerMinute);
+        this.idleNanos = TimeUnit.MINUTES.toNanos(Math.max(1, idleBucketMinutes));
+        this.maxUserBuckets = Math.max(1, maxUserBuckets);
+    }
+
+    public void admit(SubmissionRequest request) {
+        if (maxSourceBytes > 0 && request.code().getBytes(StandardCharsets.UTF_8).length > maxSourceBytes) {
+            rejectedSize.increment();
+            metrics.recordAdmission("source_too_large");
+            throw new SubmissionRejectedException(HttpStatus.PAYLOAD_TOO_LARGE,
+                    "Source code exceeds " + maxSourceBytes / 1024 + " KB", null);
+        }
+        if (!enabled) {
+            admitted.increment();
+            metrics.recordAdmission("admitted");
+            return;
+        }
+        CachedProblem problem = problemCatalog.getProblem(request.problemId());
+        if (!problem.contestId().equals(request.contestId())) {
+            throw new IllegalArgumentException("Problem does not belong to this contest");
+        }
+        long now = System.nanoTime();
+        TokenBucket contest = contestBuckets.computeIfAbsent(problem.contestId(), ignored -> new TokenBucket(contestSpec));
+        long contestWait = contest.tryAcquire(now);
+        if (contestWait > 0) {
+            rejectedRate.increment();
+            metrics.recordAdmission("contest_rate_limited");
+            throw tooManyRequests("Submission rate limit reached for this contest", contestWait);
+        }
+        TokenBucket user = userBucket(request.username().toLowerCase(Locale.ROOT));
+        if (user == null) {
+            contest.refund();
+            rejectedRate.increment();
+            metrics.recordAdmission("user_buckets_full");
+            throw new SubmissionRejectedException(HttpStatus.TOO_MANY_REQUESTS,
+                    "Too many users are submitting, try again shortly", queueRetryAfter);
+        }
+        long userWait = user.tryAcquire(now);
+        if (userWait > 0) {
+            contest.refund();
+            rejectedRate.increment();
+            metrics.recordAdmission("user_rate_limited");
+            throw tooManyRequests("Submission rate limit reached for this user", userWait);
+        }
+        if (maxQueueDepth > 0 && queueDepth.get() >= maxQueueDepth) {
+            user.refund();
+            contest.refund();
+            rejectedQueue.increment();
+            metrics.recordAdmission("queue_full");
+            throw new SubmissionRejectedException(HttpStatus.TOO_MANY_REQUESTS,
+                    "The judge queue is full, try again shortly", queueRetryAfter);
+        }
+        queueDepth.incrementAndGet();
+        admitted.increment();
+        metrics.recordAdmission("admitted");
+    }
+
+    @Scheduled(fixedDelayString = "${judge.admission.queue-depth-refresh-ms:1000}")
+    public void refreshQueueDepth() {
+        if (enabled && maxQueueDepth > 0) {
+            queueDepth.set(submissionService.countQueued());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${judge.admission.cleanup-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        userBuckets.values().removeIf(bucket -> bucket.idle(now, idleNanos));
+        contestBuckets.values().removeIf(bucket -> bucket.idle(now, idleNanos));
+    }
+
+    public AdmissionSnapshot snapshot() {
+        return new AdmissionSnapshot(admitted.sum(), rejectedSize.sum(), rejectedRate.sum(), rejectedQueue.sum(),
+                userBuckets.size(), contestBuckets.size());
+    }
+
+    private TokenBucket userBucket(String username) {
+        TokenBucket bucket = userBuckets.get(username);
+        if (bucket != null || userBuckets.size() >= maxUserBuckets) {
+            return bucket;
+        }
+        return userBuckets.computeIfAbsent(username, ignored -> new TokenBucket(userSpec));
+    }
+
+    private SubmissionRejectedException tooManyRequests(String message, long waitNanos) {
+        long seconds = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+        return new SubmissionRejectedException(HttpStatus.TOO_MANY_REQUESTS, message, Duration.ofSeconds(seconds));
+    }
+
+    public record AdmissionSnapshot(long admitted, long rejectedSize, long rejectedRate, long rejectedQueue,
+                                    int userBuckets, int contestBuckets) {
+    }
+
+    private record BucketSpec(int capacity, double refillPerMinute) {
+        private double tokensPerNano() {
+            return refillPerMinute / TimeUnit.MINUTES.toNanos(1);
+        }
+    }
+
+    private static class TokenBucket {
+        private final double capacity;
+        private final double tokensPerNano;
+        private double tokens;
+        private long refilledAt;
+        private long lastUse;
+
+        private TokenBucket(BucketSpec spec) {
+            this.capacity = Math.max(1, spec.capacity());
+            this.tokensPerNano = spec.tokensPerNano();
+            this.tokens = capacity;
+            this.refilledAt = System.nanoTime();
+            this.lastUse = refilledAt;
+        }
+
+        private synchronized long tryAcquire(long now) {
+            refill(now);
+            lastUse = now;
+            if (tokens >= 1.0) {
+                tokens -= 1.0;
+                return 0;
+            }
+            if (tokensPerNano <= 0) {
+                return TimeUnit.MINUTES.toNanos(1);
+            }
+            return Math.max(1, (long) Math.ceil((1.0 - tokens) / tokensPerNano));
+        }
+
+        private synchronized void refund() {
+            tokens = Math.min(capacity, tokens + 1.0);
+        }
+
+        private synchronized boolean idle(long now, long idleNanos) {
+            refill(now);
+            return tokens >= capacity && now - lastUse >= idleNanos;
+        }
+
+        private void refill(long now) {
+            if (now > refilledAt) {
+                tokens = Math.min(capacity, tokens + (now - refilledAt) * tokensPerNano);
+                refilledAt = now;
+            }
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package ai.shodhai.judge.service;
+
+import ai.shodhai.judge.config.NodeRole;
+import ai.shodhai.judge.repository.SubmissionChange;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Component
+public class SubmissionChangeFeed {
+
+    private static final Logger log = LoggerFactory.getLogger(SubmissionChangeFeed.class);
+    private static final UUID MIN_ID = new UUID(0L, 0L);
+
+    private final SubmissionService submissionService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final Duration overlap;
+    private final int batchSize;
+    private final Instant startedAt = Instant.now();
+    private final Map<UUID, SeenVersion> seen = new HashMap<>();
+    private Instant watermark = startedAt;
+
+    public SubmissionChangeFeed(SubmissionService submissionService,
+                                ApplicationEventPublisher eventPublisher,
+                                @Value("${judge.role:ALL}") NodeRole role,
+                                @Value("${judge.events.feed-overlap-ms:5000}") long overlapMillis,
+                                @Value("${judge.events.feed-batch-size:500}") int batchSize) {
+        this.submissionService = submissionService;
+        this.eventPublisher = eventPublisher;
+        this.enabled = role == NodeRole.API;
+        this.overlap = Duration.ofMillis(Math.max(0, overlapMillis));
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    @Scheduled(fixedDelayString = "${judge.events.feed-interval-ms:500}")
+    public synchronized void poll() {
+        if (!enabled) {
+            return;
+        }
+        Instant floor = watermark.minus(overlap);
+        if (floor.isBefore(startedAt)) {
+            floor = startedAt;
+        }
+        try {
+            Instant cursor = floor;
+            UUID cursorId = MIN_ID;
+            List<SubmissionChange> changes;
+            do {
+                changes = submissionService.findChangedSince(cursor, cursorId, batchSize);
+                for (SubmissionChange change : changes) {
+                    publishIfNew(change);
+                    cursor = change.getUpdatedAt();
+                    cursorId = change.getId();
+                    if (cursor.isAfter(watermark)) {
+                        watermark = cursor;
+                    }
+                }
+            } while (changes.size() == batchSize);
+        } catch (RuntimeException e) {
+            log.warn("Failed to poll submission changes: {}", e.getMessage());
+        }
+        prune(floor);
+    }
+
+    private void publishIfNew(SubmissionChange change) {
+        long version = change.getVersion() == null ? 0L : change.getVersion();
+        SeenVersion previous = seen.get(change.getId());
+        if (previous != null && previous.version() >= version) {
+            return;
+        }
+        seen.put(change.getId(), new SeenVersion(version, change.getUpdatedAt()));
+        if (change.getStatus().isFinal()) {
+            eventPublisher.publishEvent(new SubmissionJudgedEvent(
+                    change.getId(),
+                    change.getContestId(),
+                    change.getProblemId(),
+                    change.getUsername(),
+                    change.getStatus(),
+                    change.getVerdict(),
+                    change.getScore(),
+                    change.getExecutionTime(),
+                    change.getCpuTime(),
+                    change.getPeakMemoryKb(),
+                    change.isSampleOnly(),
+                    change.getCreatedAt()));
+        } else {
+            eventPublisher.publishEvent(new SubmissionStatusChangedEvent(change.getId(), change.getStatus(), change.getVerdict()));
+        }
+    }
+
+    private void prune(Instant floor) {
+        seen.values().removeIf(version -> version.updatedAt().isBefore(floor));
+    }
+
+    private record SeenVersion(long version, Instant updatedAt) {
+    }
+}
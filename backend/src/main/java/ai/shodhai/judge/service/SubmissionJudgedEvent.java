@@ -0,0 +1,11 @@
+package ai.shodhai.judge.service;
+
+import ai.shodhai.judge.domain.SubmissionStatus;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record SubmissionJudgedEvent(UUID submissionId, String contestId, String problemId, String username,
+                                    SubmissionStatus status, String verdict, Double score, Double executionTime,
+                                    Double cpuTime, Long peakMemoryKb, boolean sampleOnly, Instant submittedAt) {
+}
@@ -1,87 +1,186 @@
 package ai.shodhai.judge.service;
 
+import ai.shodhai.judge.catalog.CachedProblem;
+import ai.shodhai.judge.catalog.ProblemCatalog;
+import ai.shodhai.judge.config.NodeRole;
 import ai.shodhai.judge.domain.Submission;
 import ai.shodhai.judge.domain.SubmissionStatus;
+import ai.shodhai.judge.metrics.JudgeMetrics;
 import ai.shodhai.judge.service.JudgeExecutionService.ExecutionSummary;
-import jakarta.annotation.PostConstruct;
+import ai.shodhai.judge.service.SubmissionResultWriter.VerdictUpdate;
 import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Component
 public class SubmissionProcessingService {
 
     private static final Logger log = LoggerFactory.getLogger(SubmissionProcessingService.class);
+    private static final long POLL_INTERVAL_MILLIS = 500;
+    private static final int MAX_VERDICT_LENGTH = 128;
 
     private final SubmissionQueue submissionQueue;
     private final SubmissionService submissionService;
     private final JudgeExecutionService judgeExecutionService;
-    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final ProblemCatalog problemCatalog;
+    private final SubmissionResultWriter resultWriter;
+    private final JudgeMetrics metrics;
+    private final ApplicationEventPublisher eventPublisher;
+    private final long shutdownTimeoutSeconds;
+    private final boolean workersEnabled;
+    private final List<JudgeWorker> workers = new ArrayList<>();
+    private final ExecutorService executor;
     private final AtomicBoolean running = new AtomicBoolean(false);
 
     public SubmissionProcessingService(SubmissionQueue submissionQueue,
                                        SubmissionService submissionService,
-                                       JudgeExecutionService judgeExecutionService) {
+                                       JudgeExecutionService judgeExecutionService,
+                                       ProblemCatalog problemCatalog,
+                                       SubmissionResultWriter resultWriter,
+                                       JudgeMetrics metrics,
+                                       ApplicationEventPublisher eventPublisher,
+                                       @Value("${judge.role:ALL}") NodeRole role,
+                                       @Value("${judge.workers.count:0}") int workerCount,
+                                       @Value("${judge.workers.max-sandboxes:0}") int maxSandboxes,
+                                       @Value("${judge.workers.shutdown-timeout-seconds:30}") long shutdownTimeoutSeconds) {
         this.submissionQueue = submissionQueue;
         this.submissionService = submissionService;
         this.judgeExecutionService = judgeExecutionService;
+        this.problemCatalog = problemCatalog;
+        this.resultWriter = resultWriter;
+        this.metrics = metrics;
+        this.eventPublisher = eventPublisher;
+        this.shutdownTimeoutSeconds = shutdownTimeoutSeconds;
+        this.workersEnabled = role.runsWorkers();
+        int size = workersEnabled ? resolveWorkerCount(workerCount, maxSandboxes) : 0;
+        for (int i = 0; i < size; i++) {
+            workers.add(new JudgeWorker(i + 1));
+        }
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(Math.max(1, size), runnable -> {
+            Thread thread = new Thread(runnable, "judge-worker-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    static int resolveWorkerCount(int workerCount, int maxSandboxes) {
+        int size = workerCount > 0 ? workerCount : Runtime.getRuntime().availableProcessors();
+        if (maxSandboxes > 0) {
+            size = Math.min(size, maxSandboxes);
+        }
+        return Math.max(1, size);
     }
 
-    @PostConstruct
+    @EventListener(ApplicationReadyEvent.class)
     public void start() {
+        if (!workersEnabled) {
+            log.info("Judge workers disabled on this API node");
+            return;
+        }
         running.set(true);
-        executor.submit(this::pollQueue);
+        for (JudgeWorker worker : workers) {
+            executor.submit(worker);
+        }
+        log.info("Started {} judge workers", workers.size());
     }
 
     @PreDestroy
     public void stop() {
         running.set(false);
-        executor.shutdownNow();
-    }
-
-    private void pollQueue() {
-        while (running.get() && !Thread.currentThread().isInterrupted()) {
-            try {
-                UUID submissionId = submissionQueue.take();
-                processSubmission(submissionId);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            } catch (Exception e) {
-                log.error("Failed to process submission", e);
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(shutdownTimeoutSeconds, TimeUnit.SECONDS)) {
+                log.warn("Judge workers did not finish within {}s, interrupting in-flight submissions", shutdownTimeoutSeconds);
+                executor.shutdownNow();
+                executor.awaitTermination(5, TimeUnit.SECONDS);
             }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
         }
+        submissionQueue.releaseUnstarted();
+    }
+
+    public List<WorkerSnapshot> getWorkerSnapshots() {
+        return workers.stream().map(JudgeWorker::snapshot).toList();
+    }
+
+    public int getBusyWorkers() {
+        return (int) workers.stream().filter(worker -> worker.currentSubmission != null).count();
     }
 
-    @Transactional
     public void processSubmission(UUID submissionId) {
-        Submission submission = submissionService.getSubmission(submissionId);
-        submission.setStatus(SubmissionStatus.RUNNING);
-        submission.setVerdict("Running");
-        submissionService.save(submission);
-
-        ExecutionSummary result = judgeExecutionService.judgeSubmission(submission);
-
-        if (result.accepted()) {
-            submission.setStatus(SubmissionStatus.ACCEPTED);
-            submission.setScore(result.score());
-        } else {
-            submission.setStatus(resolveFailureStatus(result.verdict()));
-            submission.setScore(0.0);
-        }
-        submission.setExecutionTime(result.timeSeconds());
-        submission.setVerdict(result.verdict());
-        if (result.message() != null) {
-            submission.setVerdict(result.verdict() + ": " + result.message());
+        Submission submission = submissionService.getSubmissionForJudging(submissionId);
+        eventPublisher.publishEvent(new SubmissionStatusChangedEvent(submissionId, SubmissionStatus.RUNNING, "Running"));
+
+        CachedProblem problem = problemCatalog.getProblem(submission.getProblem().getId());
+
+        long start = System.nanoTime();
+        ExecutionSummary result = judgeExecutionService.judgeSubmission(submission, problem);
+
+        if (!running.get() && Thread.interrupted()) {
+            requeue(submissionId);
+            return;
         }
 
-        submissionService.save(submission);
+        SubmissionStatus status = result.accepted() ? SubmissionStatus.ACCEPTED : resolveFailureStatus(result.verdict());
+        double score = result.score() == null ? 0.0 : result.score();
+        String verdict = result.message() == null ? result.verdict() : truncateVerdict(result.verdict() + ": " + result.message());
+        Long peakMemoryKb = result.peakMemoryKb() > 0 ? result.peakMemoryKb() : null;
+        metrics.recordJudged(submission.getLanguage(), result.verdict(), System.nanoTime() - start);
+
+        resultWriter.write(
+                new VerdictUpdate(
+                        submissionId,
+                        submissionQueue.getNodeId(),
+                        status,
+                        verdict,
+                        score,
+                        result.timeSeconds(),
+                        result.compileTimeSeconds(),
+                        result.cpuTimeSeconds(),
+                        peakMemoryKb),
+                new SubmissionJudgedEvent(
+                        submissionId,
+                        submission.getContest().getId(),
+                        submission.getProblem().getId(),
+                        submission.getUser().getUsername(),
+                        status,
+                        verdict,
+                        score,
+                        result.timeSeconds(),
+                        result.cpuTimeSeconds(),
+                        peakMemoryKb,
+                        submission.isSampleOnly(),
+                        submission.getCreatedAt()));
+    }
+
+    private void requeue(UUID submissionId) {
+        log.info("Requeueing submission {} interrupted by shutdown", submissionId);
+        submissionService.releaseLeases(submissionQueue.getNodeId(), List.of(submissionId));
+        eventPublisher.publishEvent(new SubmissionStatusChangedEvent(submissionId, SubmissionStatus.QUEUED, "Pending"));
+        submissionQueue.enqueue(submissionId);
+    }
+
+    private String truncateVerdict(String verdict) {
+        return verdict.length() <= MAX_VERDICT_LENGTH ? verdict : verdict.substring(0, MAX_VERDICT_LENGTH - 3) + "...";
     }
 
     private SubmissionStatus resolveFailureStatus(String verdict) {
@@ -92,10 +191,78 @@ public class SubmissionProcessingService {
             case "wrong answer" -> SubmissionStatus.WRONG_ANSWER;
             case "runtime error" -> SubmissionStatus.RUNTIME_ERROR;
             case "compile error" -> SubmissionStatus.COMPILE_ERROR;
-            case "time limit exceeded" -> SubmissionStatus.RUNTIME_ERROR;
+            case "time limit exceeded" -> SubmissionStatus.TIME_LIMIT_EXCEEDED;
+            case "memory limit exceeded" -> SubmissionStatus.MEMORY_LIMIT_EXCEEDED;
+            case "output limit exceeded" -> SubmissionStatus.OUTPUT_LIMIT_EXCEEDED;
             case "unsupported language" -> SubmissionStatus.COMPILE_ERROR;
             case "system error" -> SubmissionStatus.SYSTEM_ERROR;
+            case "checker error" -> SubmissionStatus.SYSTEM_ERROR;
             default -> SubmissionStatus.WRONG_ANSWER;
         };
     }
+
+    public record WorkerSnapshot(int workerId, UUID currentSubmission, Instant busySince,
+                                 long processed, long failed, double busySeconds) {
+    }
+
+    private class JudgeWorker implements Runnable {
+        private final int id;
+        private final AtomicLong processed = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private final AtomicLong busyNanos = new AtomicLong();
+        private volatile UUID currentSubmission;
+        private volatile Instant busySince;
+
+        private JudgeWorker(int id) {
+            this.id = id;
+        }
+
+        @Override
+        public void run() {
+            while (running.get() && !Thread.currentThread().isInterrupted()) {
+                UUID submissionId;
+                try {
+                    submissionId = submissionQueue.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                if (submissionId != null) {
+                    handle(submissionId);
+                }
+            }
+        }
+
+        private void handle(UUID submissionId) {
+            long start = System.nanoTime();
+            currentSubmission = submissionId;
+            busySince = Instant.now();
+            try {
+                processSubmission(submissionId);
+                processed.incrementAndGet();
+            } catch (Exception e) {
+                failed.incrementAndGet();
+                log.error("Worker {} failed to process submission {}", id, submissionId, e);
+                abandon(submissionId);
+            } finally {
+                submissionQueue.complete(submissionId);
+                busyNanos.addAndGet(System.nanoTime() - start);
+                currentSubmission = null;
+                busySince = null;
+            }
+        }
+
+        private void abandon(UUID submissionId) {
+            try {
+                submissionQueue.abandon(submissionId);
+            } catch (RuntimeException e) {
+                log.warn("Failed to release submission {}, it will be retried once its lease expires: {}", submissionId, e.getMessage());
+            }
+        }
+
+        private WorkerSnapshot snapshot() {
+            return new WorkerSnapshot(id, currentSubmission, busySince, processed.get(), failed.get(),
+                    busyNanos.get() / 1_000_000_000.0);
+        }
+    }
 }
@@ -1,21 +1,306 @@
 package ai.shodhai.judge.service;
 
+import ai.shodhai.judge.domain.SubmissionStatus;
+import ai.shodhai.judge.metrics.JudgeMetrics;
+import ai.shodhai.judge.repository.QueueDepth;
+import ai.shodhai.judge.repository.QueuedSubmission;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 @Component
 public class SubmissionQueue {
 
-    private final BlockingQueue<UUID> queue = new LinkedBlockingQueue<>();
+    private static final Logger log = LoggerFactory.getLogger(SubmissionQueue.class);
+
+    private final SubmissionService submissionService;
+    private final SubmissionScheduler scheduler;
+    private final JudgeMetrics metrics;
+    private final ApplicationEventPublisher eventPublisher;
+    private final String nodeId;
+    private final Duration leaseDuration;
+    private final int claimBatchSize;
+    private final int schedulerScan;
+    private final int schedulerWindow;
+    private final int perUserWindow;
+    private final int maxAttempts;
+    private final long pollIntervalNanos;
+    private final BlockingQueue<UUID> claimed = new LinkedBlockingQueue<>();
+    private final Set<UUID> leased = ConcurrentHashMap.newKeySet();
+    private final Map<QueueClass, WaitStatistics> waitStatistics = new EnumMap<>(QueueClass.class);
+    private final AtomicInteger idlePollers = new AtomicInteger();
+    private final Object monitor = new Object();
+    private volatile boolean signalled = true;
+    private volatile long lastEmptyClaim;
+
+    public SubmissionQueue(SubmissionService submissionService,
+                           SubmissionScheduler scheduler,
+                           JudgeMetrics metrics,
+                           ApplicationEventPublisher eventPublisher,
+                           @Value("${judge.node-id:}") String nodeId,
+                           @Value("${judge.queue.lease-seconds:60}") long leaseSeconds,
+                           @Value("${judge.queue.claim-batch-size:4}") int claimBatchSize,
+                           @Value("${judge.queue.scheduler-window:200}") int schedulerWindow,
+                           @Value("${judge.queue.scheduler-per-user-window:4}") int perUserWindow,
+                           @Value("${judge.queue.scheduler-scan:1000}") int schedulerScan,
+                           @Value("${judge.queue.poll-interval-ms:1000}") long pollIntervalMillis,
+                           @Value("${judge.queue.max-attempts:3}") int maxAttempts) {
+        this.submissionService = submissionService;
+        this.scheduler = scheduler;
+        this.metrics = metrics;
+        this.eventPublisher = eventPublisher;
+        this.nodeId = nodeId.isBlank() ? defaultNodeId() : nodeId;
+        this.leaseDuration = Duration.ofSeconds(leaseSeconds);
+        this.claimBatchSize = Math.max(1, claimBatchSize);
+        this.schedulerWindow = Math.max(this.claimBatchSize, schedulerWindow);
+        this.perUserWindow = Math.max(1, perUserWindow);
+        this.schedulerScan = Math.max(this.schedulerWindow, schedulerScan);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        for (QueueClass queueClass : QueueClass.values()) {
+            waitStatistics.put(queueClass, new WaitStatistics());
+        }
+        this.pollIntervalNanos = TimeUnit.MILLISECONDS.toNanos(pollIntervalMillis);
+        this.lastEmptyClaim = System.nanoTime() - pollIntervalNanos;
+    }
+
+    private static String defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "judge";
+        }
+        return host + "-" + ProcessHandle.current().pid();
+    }
+
+    @PostConstruct
+    public void recover() {
+        failExhausted();
+        int requeued = submissionService.requeueExpiredLeases(maxAttempts);
+        if (requeued > 0) {
+            log.info("Recovered {} unfinished submissions with expired leases", requeued);
+        }
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
 
     public void enqueue(UUID submissionId) {
-        queue.offer(submissionId);
+        signalWork();
     }
 
     public UUID take() throws InterruptedException {
-        return queue.take();
+        UUID submissionId = null;
+        while (submissionId == null) {
+            submissionId = poll(pollIntervalNanos, TimeUnit.NANOSECONDS);
+        }
+        return submissionId;
+    }
+
+    public UUID poll(long timeout, TimeUnit unit) throws InterruptedException {
+        idlePollers.incrementAndGet();
+        try {
+            return awaitClaim(System.nanoTime() + unit.toNanos(timeout));
+        } finally {
+            idlePollers.decrementAndGet();
+        }
+    }
+
+    private UUID awaitClaim(long deadline) throws InterruptedException {
+        while (true) {
+            UUID submissionId = claimed.poll();
+            if (submissionId != null) {
+                return submissionId;
+            }
+            if (claimDue()) {
+                claimBatch();
+                continue;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return null;
+            }
+            synchronized (monitor) {
+                if (!signalled) {
+                    TimeUnit.NANOSECONDS.timedWait(monitor, Math.min(remaining, pollIntervalNanos));
+                }
+            }
+        }
+    }
+
+    public void complete(UUID submissionId) {
+        leased.remove(submissionId);
+    }
+
+    public void abandon(UUID submissionId) {
+        leased.remove(submissionId);
+        SubmissionStatus status = submissionService.abandonLease(nodeId, submissionId, maxAttempts, exhaustedVerdict());
+        if (status == SubmissionStatus.QUEUED) {
+            eventPublisher.publishEvent(new SubmissionStatusChangedEvent(submissionId, status, "Pending"));
+            signalWork();
+        } else if (status == SubmissionStatus.SYSTEM_ERROR) {
+            log.error("Submission {} failed {} judging attempts, marking it as a system error", submissionId, maxAttempts);
+            eventPublisher.publishEvent(new SubmissionStatusChangedEvent(submissionId, status, exhaustedVerdict()));
+        }
+    }
+
+    public int size() {
+        return (int) submissionService.countQueued();
+    }
+
+    public List<QueueClassSnapshot> getClassSnapshots() {
+        Map<QueueClass, QueueDepth> depths = new EnumMap<>(QueueClass.class);
+        for (QueueDepth depth : submissionService.countQueuedByClass()) {
+            depths.put(QueueClass.of(depth.isSampleOnly()), depth);
+        }
+        Instant now = Instant.now();
+        List<QueueClassSnapshot> snapshots = new ArrayList<>();
+        for (QueueClass queueClass : QueueClass.values()) {
+            QueueDepth depth = depths.get(queueClass);
+            WaitStatistics statistics = waitStatistics.get(queueClass);
+            snapshots.add(new QueueClassSnapshot(
+                    queueClass,
+                    depth == null ? 0 : depth.getDepth(),
+                    depth == null ? 0.0 : Duration.between(depth.getOldestCreatedAt(), now).toMillis() / 1000.0,
+                    statistics.claimed.sum(),
+                    statistics.averageSeconds(),
+                    statistics.maxMillis.get() / 1000.0));
+        }
+        return snapshots;
+    }
+
+    public void releaseUnstarted() {
+        List<UUID> unstarted = new ArrayList<>();
+        claimed.drainTo(unstarted);
+        if (unstarted.isEmpty()) {
+            return;
+        }
+        unstarted.forEach(leased::remove);
+        int released = submissionService.releaseLeases(nodeId, unstarted);
+        log.info("Released {} claimed but unstarted submissions back to the queue", released);
+    }
+
+    @Scheduled(fixedDelayString = "${judge.queue.heartbeat-interval-ms:20000}")
+    public void renewLeases() {
+        if (!leased.isEmpty()) {
+            submissionService.renewLeases(nodeId, List.copyOf(leased), leaseDuration);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${judge.queue.recovery-interval-ms:60000}", initialDelayString = "${judge.queue.recovery-interval-ms:60000}")
+    public void requeueExpired() {
+        failExhausted();
+        int requeued = submissionService.requeueExpiredLeases(maxAttempts);
+        if (requeued > 0) {
+            log.warn("Requeued {} submissions whose lease expired", requeued);
+        }
+    }
+
+    private void failExhausted() {
+        List<UUID> failed = submissionService.failExhaustedLeases(maxAttempts, exhaustedVerdict());
+        if (!failed.isEmpty()) {
+            log.error("Marked {} submissions as system errors after {} expired judging attempts", failed.size(), maxAttempts);
+            failed.forEach(id -> eventPublisher.publishEvent(new SubmissionStatusChangedEvent(id, SubmissionStatus.SYSTEM_ERROR, exhaustedVerdict())));
+        }
+    }
+
+    private String exhaustedVerdict() {
+        return "System Error: Judging failed after " + maxAttempts + " attempts";
+    }
+
+    private void signalWork() {
+        synchronized (monitor) {
+            signalled = true;
+            monitor.notifyAll();
+        }
+    }
+
+    private boolean claimDue() {
+        return signalled || System.nanoTime() - lastEmptyClaim >= pollIntervalNanos;
+    }
+
+    private synchronized void claimBatch() {
+        if (!claimed.isEmpty()) {
+            return;
+        }
+        signalled = false;
+        int limit = Math.max(1, Math.min(claimBatchSize, idlePollers.get()));
+        List<UUID> submissionIds;
+        try {
+            List<QueuedSubmission> candidates = submissionService.findClaimCandidates(schedulerScan, schedulerWindow, perUserWindow);
+            List<QueuedSubmission> selected = scheduler.select(candidates, limit);
+            submissionIds = submissionService.claim(nodeId, selected.stream().map(QueuedSubmission::getId).toList(), leaseDuration);
+            recordWaits(selected, submissionIds);
+        } catch (RuntimeException e) {
+            log.warn("Failed to claim queued submissions: {}", e.getMessage());
+            lastEmptyClaim = System.nanoTime();
+            return;
+        }
+        if (submissionIds.isEmpty()) {
+            lastEmptyClaim = System.nanoTime();
+            return;
+        }
+        leased.addAll(submissionIds);
+        claimed.addAll(submissionIds);
+        synchronized (monitor) {
+            signalled = submissionIds.size() == limit;
+            monitor.notifyAll();
+        }
+    }
+
+    private void recordWaits(List<QueuedSubmission> selected, List<UUID> claimedIds) {
+        Instant now = Instant.now();
+        for (QueuedSubmission submission : selected) {
+            if (claimedIds.contains(submission.getId())) {
+                Duration wait = Duration.between(submission.getCreatedAt(), now);
+                QueueClass queueClass = QueueClass.of(submission.isSampleOnly());
+                waitStatistics.get(queueClass).record(wait.toMillis());
+                metrics.recordQueueWait(queueClass.name(), wait);
+            }
+        }
+    }
+
+    public record QueueClassSnapshot(QueueClass queueClass, long depth, double oldestWaitSeconds,
+                                     long claimed, double averageWaitSeconds, double maxWaitSeconds) {
+    }
+
+    private static class WaitStatistics {
+        private final LongAdder claimed = new LongAdder();
+        private final LongAdder totalMillis = new LongAdder();
+        private final AtomicLong maxMillis = new AtomicLong();
+
+        private void record(long waitMillis) {
+            claimed.increment();
+            totalMillis.add(waitMillis);
+            maxMillis.accumulateAndGet(waitMillis, Math::max);
+        }
+
+        private double averageSeconds() {
+            long count = claimed.sum();
+            return count == 0 ? 0.0 : totalMillis.sum() / 1000.0 / count;
+        }
     }
 }
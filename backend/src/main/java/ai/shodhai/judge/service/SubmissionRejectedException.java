@@ -0,0 +1,25 @@
+package ai.shodhai.judge.service;
+
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+
+public class SubmissionRejectedException extends RuntimeException {
+
+    private final HttpStatus status;
+    private final Duration retryAfter;
+
+    public SubmissionRejectedException(HttpStatus status, String message, Duration retryAfter) {
+        super(message);
+        this.status = status;
+        this.retryAfter = retryAfter;
+    }
+
+    public HttpStatus getStatus() {
+        return status;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
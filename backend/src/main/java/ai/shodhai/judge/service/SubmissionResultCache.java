@@ -0,0 +1,104 @@
+package ai.shodhai.judge.service;
+
+import ai.shodhai.judge.catalog.CachedProblem;
+import ai.shodhai.judge.catalog.CachedTestCase;
+import ai.shodhai.judge.runtime.LanguageRuntime;
+import ai.shodhai.judge.service.JudgeExecutionService.ExecutionSummary;
+import ai.shodhai.judge.storage.ContentHash;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+@Component
+public class SubmissionResultCache {
+
+    private static final Set<String> DETERMINISTIC_VERDICTS = Set.of(
+            "Accepted", "Wrong Answer", "Compile Error", "Output Limit Exceeded");
+
+    private final boolean enabled;
+    private final int maxEntries;
+    private final Map<String, ExecutionSummary> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder stores = new LongAdder();
+
+    public SubmissionResultCache(@Value("${judge.cache.results.enabled:true}") boolean enabled,
+                                 @Value("${judge.cache.results.max-entries:4096}") int maxEntries) {
+        this.enabled = enabled;
+        this.maxEntries = Math.max(1, maxEntries);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ExecutionSummary> eldest) {
+                return size() > SubmissionResultCache.this.maxEntries;
+            }
+        };
+    }
+
+    public String keyFor(LanguageRuntime runtime, String sourceCode, CachedProblem problem,
+                         List<CachedTestCase> testCases, boolean sampleOnly) {
+        ContentHash hash = ContentHash.sha256()
+                .add(runtime.id())
+                .add(runtime.compileCommand())
+                .add(runtime.runCommand())
+                .add(runtime.timeMultiplier())
+                .add(sourceCode)
+                .add(problem.id())
+                .add(problem.version())
+                .add(problem.scoringMode())
+                .add(problem.checkerMode())
+                .add(problem.checkerProgram() == null ? null : problem.checkerProgram().getFileName())
+                .add(problem.floatTolerance())
+                .add(problem.timeLimitMillis())
+                .add(problem.memoryLimitMb())
+                .add(problem.pidsLimit())
+                .add(problem.outputLimitKb())
+                .add(sampleOnly);
+        for (CachedTestCase testCase : testCases) {
+            hash.add(testCase.input().getFileName()).add(testCase.expectedOutput().getFileName());
+        }
+        return hash.hex();
+    }
+
+    public Optional<ExecutionSummary> get(String key) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        ExecutionSummary summary;
+        synchronized (entries) {
+            summary = entries.get(key);
+        }
+        if (summary == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        return Optional.of(summary);
+    }
+
+    public void put(String key, ExecutionSummary summary) {
+        if (!enabled || !DETERMINISTIC_VERDICTS.contains(summary.verdict())) {
+            return;
+        }
+        synchronized (entries) {
+            entries.put(key, summary);
+        }
+        stores.increment();
+    }
+
+    public CacheSnapshot snapshot() {
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        return new CacheSnapshot(size, hits.sum(), misses.sum(), stores.sum());
+    }
+
+    public record CacheSnapshot(int entries, long hits, long misses, long stores) {
+    }
+}
@@ -0,0 +1,232 @@
+package ai.shodhai.judge.service;
+
+import ai.shodhai.judge.domain.SubmissionStatus;
+import ai.shodhai.judge.metrics.JudgeMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+@Component
+public class SubmissionResultWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(SubmissionResultWriter.class);
+    private static final String UPDATE_VERDICT = "UPDATE submissions SET status = ?, verdict = ?, score = ?, "
+            + "execution_time = ?, compile_time = ?, cpu_time = ?, peak_memory_kb = ?, lease_owner = NULL, "
+            + "lease_expires_at = NULL, updated_at = ?, version = version + 1 "
+            + "WHERE submission_id = ? AND lease_owner = ?";
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JudgeMetrics metrics;
+    private final long flushIntervalNanos;
+    private final int maxBatchSize;
+    private final long shutdownTimeoutMillis;
+    private final int maxAttempts;
+    private final BlockingQueue<PendingWrite> pending = new LinkedBlockingQueue<>();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder stale = new LongAdder();
+    private final LongAdder retried = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final Thread writer;
+    private volatile boolean running;
+
+    public SubmissionResultWriter(JdbcTemplate jdbcTemplate,
+                                  TransactionTemplate transactionTemplate,
+                                  ApplicationEventPublisher eventPublisher,
+                                  JudgeMetrics metrics,
+                                  @Value("${judge.persistence.flush-interval-ms:5}") long flushIntervalMillis,
+                                  @Value("${judge.persistence.max-batch-size:64}") int maxBatchSize,
+                                  @Value("${judge.persistence.shutdown-timeout-ms:5000}") long shutdownTimeoutMillis,
+                                  @Value("${judge.persistence.max-attempts:3}") int maxAttempts) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.metrics = metrics;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, flushIntervalMillis));
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.writer = new Thread(this::run, "submission-writer");
+        this.writer.setDaemon(true);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        writer.start();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        try {
+            writer.join(shutdownTimeoutMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writer.isAlive()) {
+            writer.interrupt();
+            log.warn("Submission writer did not drain within {}ms, {} verdicts left unwritten",
+                    shutdownTimeoutMillis, pending.size());
+        }
+    }
+
+    public void write(VerdictUpdate update, SubmissionJudgedEvent event) {
+        pending.add(new PendingWrite(update, event, 1));
+    }
+
+    public WriterSnapshot snapshot() {
+        return new WriterSnapshot(pending.size(), batches.sum(), written.sum(), stale.sum(), retried.sum(), failed.sum());
+    }
+
+    private void run() {
+        List<PendingWrite> batch = new ArrayList<>(maxBatchSize);
+        while (running || !pending.isEmpty()) {
+            try {
+                PendingWrite first = pending.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + flushIntervalNanos;
+                while (batch.size() < maxBatchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    PendingWrite next = remaining > 0 ? pending.poll(remaining, TimeUnit.NANOSECONDS) : pending.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Submission writer failed to flush {} verdicts", batch.size(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<PendingWrite> batch) {
+        long start = System.nanoTime();
+        Timestamp now = Timestamp.from(Instant.now());
+        int[] counts;
+        try {
+            counts = transactionTemplate.execute(status -> jdbcTemplate.batchUpdate(UPDATE_VERDICT, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement statement, int index) throws SQLException {
+                    bind(statement, batch.get(index).update(), now);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return batch.size();
+                }
+            }));
+        } catch (DataAccessException e) {
+            log.warn("Batched verdict update failed, writing {} rows individually: {}", batch.size(), e.getMessage());
+            counts = writeIndividually(batch, now);
+        }
+        batches.increment();
+        metrics.recordWrite(batch.size(), System.nanoTime() - start);
+        for (int i = 0; i < batch.size(); i++) {
+            PendingWrite write = batch.get(i);
+            if (counts[i] == 0) {
+                stale.increment();
+                log.warn("Discarding verdict for submission {} whose lease is no longer held by {}",
+                        write.update().submissionId(), write.update().leaseOwner());
+                continue;
+            }
+            if (counts[i] > 0 || counts[i] == Statement.SUCCESS_NO_INFO) {
+                written.increment();
+                publish(write.event());
+                continue;
+            }
+            retry(write);
+        }
+    }
+
+    private void retry(PendingWrite write) {
+        if (write.attempts() < maxAttempts) {
+            retried.increment();
+            pending.add(new PendingWrite(write.update(), write.event(), write.attempts() + 1));
+            return;
+        }
+        failed.increment();
+        log.error("Giving up on verdict for submission {} after {} attempts; it will be judged again once its lease expires",
+                write.update().submissionId(), write.attempts());
+    }
+
+    private int[] writeIndividually(List<PendingWrite> batch, Timestamp now) {
+        int[] counts = new int[batch.size()];
+        for (int i = 0; i < batch.size(); i++) {
+            VerdictUpdate update = batch.get(i).update();
+            try {
+                counts[i] = jdbcTemplate.update(UPDATE_VERDICT, statement -> bind(statement, update, now));
+            } catch (DataAccessException e) {
+                log.error("Failed to store verdict for submission {}", update.submissionId(), e);
+                counts[i] = Statement.EXECUTE_FAILED;
+            }
+        }
+        return counts;
+    }
+
+    private void bind(PreparedStatement statement, VerdictUpdate update, Timestamp now) throws SQLException {
+        statement.setString(1, update.status().name());
+        statement.setString(2, update.verdict());
+        statement.setObject(3, update.score(), Types.DOUBLE);
+        statement.setObject(4, update.executionTime(), Types.DOUBLE);
+        statement.setObject(5, update.compileTime(), Types.DOUBLE);
+        statement.setObject(6, update.cpuTime(), Types.DOUBLE);
+        statement.setObject(7, update.peakMemoryKb(), Types.BIGINT);
+        statement.setTimestamp(8, now);
+        statement.setObject(9, update.submissionId());
+        statement.setString(10, update.leaseOwner());
+    }
+
+    private void publish(SubmissionJudgedEvent event) {
+        try {
+            eventPublisher.publishEvent(event);
+        } catch (RuntimeException e) {
+            log.error("Failed to publish verdict of submission {}", event.submissionId(), e);
+        }
+    }
+
+    public record VerdictUpdate(UUID submissionId, String leaseOwner, SubmissionStatus status, String verdict,
+                                Double score, Double executionTime, Double compileTime, Double cpuTime,
+                                Long peakMemoryKb) {
+    }
+
+    public record WriterSnapshot(int pending, long batches, long written, long stale, long retried, long failed) {
+    }
+
+    private record PendingWrite(VerdictUpdate update, SubmissionJudgedEvent event, int attempts) {
+    }
+}
@@ -0,0 +1,10 @@
+package ai.shodhai.judge.service;
+
+import ai.shodhai.judge.repository.QueuedSubmission;
+
+import java.util.List;
+
+public interface SubmissionScheduler {
+
+    List<QueuedSubmission> select(List<QueuedSubmission> candidates, int limit);
+}
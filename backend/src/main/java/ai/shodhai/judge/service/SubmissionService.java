@@ -1,18 +1,29 @@
 package ai.shodhai.judge.service;
 
+import ai.shodhai.judge.catalog.CachedProblem;
+import ai.shodhai.judge.catalog.ProblemCatalog;
 import ai.shodhai.judge.domain.Contest;
 import ai.shodhai.judge.domain.ContestUser;
-import ai.shodhai.judge.domain.Problem;
 import ai.shodhai.judge.domain.Submission;
 import ai.shodhai.judge.domain.SubmissionStatus;
 import ai.shodhai.judge.dto.SubmissionRequest;
 import ai.shodhai.judge.repository.ContestRepository;
 import ai.shodhai.judge.repository.ContestUserRepository;
+import ai.shodhai.judge.repository.PenalizedAttemptRow;
 import ai.shodhai.judge.repository.ProblemRepository;
+import ai.shodhai.judge.repository.ProblemResultRow;
+import ai.shodhai.judge.repository.QueueDepth;
+import ai.shodhai.judge.repository.QueuedSubmission;
+import ai.shodhai.judge.repository.SubmissionChange;
 import ai.shodhai.judge.repository.SubmissionRepository;
+import ai.shodhai.judge.repository.SubmissionStatusView;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -23,25 +34,27 @@ public class SubmissionService {
     private final ProblemRepository problemRepository;
     private final ContestUserRepository contestUserRepository;
     private final SubmissionRepository submissionRepository;
+    private final ProblemCatalog problemCatalog;
 
     public SubmissionService(ContestRepository contestRepository,
                              ProblemRepository problemRepository,
                              ContestUserRepository contestUserRepository,
-                             SubmissionRepository submissionRepository) {
+                             SubmissionRepository submissionRepository,
+                             ProblemCatalog problemCatalog) {
         this.contestRepository = contestRepository;
         this.problemRepository = problemRepository;
         this.contestUserRepository = contestUserRepository;
         this.submissionRepository = submissionRepository;
+        this.problemCatalog = problemCatalog;
     }
 
     @Transactional
     public Submission createSubmission(SubmissionRequest request) {
         Contest contest = contestRepository.findById(request.contestId())
                 .orElseThrow(() -> new IllegalArgumentException("Contest not found"));
-        Problem problem = problemRepository.findById(request.problemId())
-                .orElseThrow(() -> new IllegalArgumentException("Problem not found"));
+        CachedProblem problem = problemCatalog.getProblem(request.problemId());
 
-        if (!problem.getContest().getId().equals(contest.getId())) {
+        if (!contest.getId().equals(problem.contestId())) {
             throw new IllegalArgumentException("Problem does not belong to this contest");
         }
 
@@ -50,10 +63,11 @@ public class SubmissionService {
 
         Submission submission = new Submission();
         submission.setContest(contest);
-        submission.setProblem(problem);
+        submission.setProblem(problemRepository.getReferenceById(problem.id()));
         submission.setUser(user);
         submission.setLanguage(request.language());
         submission.setSourceCode(request.code());
+        submission.setSampleOnly(Boolean.TRUE.equals(request.sampleOnly()));
         submission.setStatus(SubmissionStatus.QUEUED);
         submission.setVerdict("Pending");
         submission.setScore(0.0);
@@ -62,18 +76,98 @@ public class SubmissionService {
     }
 
     @Transactional(readOnly = true)
-    public Submission getSubmission(UUID submissionId) {
-        return submissionRepository.findById(submissionId)
+    public SubmissionStatusView getSubmissionStatus(UUID submissionId) {
+        return submissionRepository.findStatusById(submissionId)
                 .orElseThrow(() -> new IllegalArgumentException("Submission not found"));
     }
 
+    @Transactional(readOnly = true)
+    public Submission getSubmissionForJudging(UUID submissionId) {
+        return submissionRepository.findForJudging(submissionId)
+                .orElseThrow(() -> new IllegalArgumentException("Submission not found"));
+    }
+
+    @Transactional(readOnly = true)
+    public List<QueuedSubmission> findClaimCandidates(int scan, int window, int perUser) {
+        return submissionRepository.findClaimCandidates(SubmissionStatus.QUEUED, scan, window, perUser);
+    }
+
     @Transactional
-    public Submission save(Submission submission) {
-        return submissionRepository.save(submission);
+    public List<UUID> claim(String owner, Collection<UUID> submissionIds, Duration leaseDuration) {
+        if (submissionIds.isEmpty()) {
+            return List.of();
+        }
+        Instant now = Instant.now();
+        submissionRepository.claim(submissionIds, owner, now.plus(leaseDuration), now, SubmissionStatus.QUEUED, SubmissionStatus.RUNNING);
+        return submissionRepository.findIdsLeasedBy(submissionIds, owner);
+    }
+
+    @Transactional
+    public int renewLeases(String owner, Collection<UUID> submissionIds, Duration leaseDuration) {
+        return submissionRepository.renewLeases(submissionIds, owner, Instant.now().plus(leaseDuration));
+    }
+
+    @Transactional
+    public int releaseLeases(String owner, Collection<UUID> submissionIds) {
+        return submissionRepository.releaseLeases(submissionIds, owner, Instant.now(), SubmissionStatus.QUEUED);
+    }
+
+    @Transactional
+    public SubmissionStatus abandonLease(String owner, UUID submissionId, int maxAttempts, String verdict) {
+        Instant now = Instant.now();
+        if (submissionRepository.retryLease(submissionId, owner, now, SubmissionStatus.QUEUED, maxAttempts) > 0) {
+            return SubmissionStatus.QUEUED;
+        }
+        if (submissionRepository.failLease(submissionId, owner, now, SubmissionStatus.SYSTEM_ERROR, verdict) > 0) {
+            return SubmissionStatus.SYSTEM_ERROR;
+        }
+        return null;
+    }
+
+    @Transactional
+    public List<UUID> failExhaustedLeases(int maxAttempts, String verdict) {
+        Instant now = Instant.now();
+        List<UUID> failed = new ArrayList<>();
+        for (UUID submissionId : submissionRepository.findExhaustedLeases(now, SubmissionStatus.RUNNING, maxAttempts)) {
+            if (submissionRepository.failExpiredLease(submissionId, now, SubmissionStatus.RUNNING, SubmissionStatus.SYSTEM_ERROR, verdict) > 0) {
+                failed.add(submissionId);
+            }
+        }
+        return failed;
+    }
+
+    @Transactional
+    public int requeueExpiredLeases(int maxAttempts) {
+        return submissionRepository.requeueExpiredLeases(Instant.now(), SubmissionStatus.QUEUED, SubmissionStatus.RUNNING, maxAttempts);
+    }
+
+    @Transactional(readOnly = true)
+    public long countQueued() {
+        return submissionRepository.countByStatus(SubmissionStatus.QUEUED);
+    }
+
+    @Transactional(readOnly = true)
+    public List<SubmissionChange> findChangedSince(Instant since, UUID afterId, int limit) {
+        return submissionRepository.findChangedSince(since, afterId, limit);
+    }
+
+    @Transactional(readOnly = true)
+    public List<QueueDepth> countQueuedByClass() {
+        return submissionRepository.countQueuedByClass(SubmissionStatus.QUEUED);
     }
 
     @Transactional(readOnly = true)
     public List<Submission> findByContest(String contestId) {
         return submissionRepository.findByContestId(contestId);
     }
+
+    @Transactional(readOnly = true)
+    public List<ProblemResultRow> summarizeProblemResults(String contestId, Collection<SubmissionStatus> penalized) {
+        return submissionRepository.summarizeProblemResults(contestId, SubmissionStatus.ACCEPTED, penalized);
+    }
+
+    @Transactional(readOnly = true)
+    public List<PenalizedAttemptRow> findPenalizedAttempts(String contestId, Collection<SubmissionStatus> penalized) {
+        return submissionRepository.findPenalizedAttempts(contestId, SubmissionStatus.ACCEPTED, penalized);
+    }
 }
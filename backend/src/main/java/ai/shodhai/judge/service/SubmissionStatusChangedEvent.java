@@ -0,0 +1,8 @@
+package ai.shodhai.judge.service;
+
+import ai.shodhai.judge.domain.SubmissionStatus;
+
+import java.util.UUID;
+
+public record SubmissionStatusChangedEvent(UUID submissionId, SubmissionStatus status, String verdict) {
+}
@@ -0,0 +1,182 @@
+package ai.shodhai.judge.storage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+@Component
+public class ArtifactCache {
+
+    private static final Logger log = LoggerFactory.getLogger(ArtifactCache.class);
+
+    private final boolean enabled;
+    private final Path root;
+    private final int maxEntries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder stores = new LongAdder();
+
+    public ArtifactCache(@Value("${judge.cache.artifacts.enabled:true}") boolean enabled,
+                         @Value("${judge.cache.artifacts.directory:data/artifact-cache}") Path root,
+                         @Value("${judge.cache.artifacts.max-entries:512}") int maxEntries) {
+        this.enabled = enabled;
+        this.root = root.toAbsolutePath().normalize();
+        this.maxEntries = Math.max(1, maxEntries);
+        if (enabled) {
+            try {
+                Files.createDirectories(this.root.resolve("tmp"));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot create artifact cache directory " + this.root, e);
+            }
+        }
+    }
+
+    public String keyFor(String environment, String runtimeId, List<String> compileCommand, String sourceFile, String source) {
+        return ContentHash.sha256().add(environment).add(runtimeId).add(compileCommand).add(sourceFile).add(source).hex();
+    }
+
+    public boolean restore(String key, Path workspace) {
+        if (!enabled) {
+            return false;
+        }
+        Path entry = pathFor(key);
+        if (!Files.isDirectory(entry)) {
+            misses.increment();
+            return false;
+        }
+        try {
+            copyTree(entry, workspace, null);
+            Files.setLastModifiedTime(entry, FileTime.fromMillis(System.currentTimeMillis()));
+            hits.increment();
+            return true;
+        } catch (IOException e) {
+            log.warn("Failed to restore compiled artifacts {}", key, e);
+            misses.increment();
+            return false;
+        }
+    }
+
+    public void store(String key, Path workspace, String sourceFile) {
+        if (!enabled) {
+            return;
+        }
+        Path entry = pathFor(key);
+        if (Files.isDirectory(entry)) {
+            return;
+        }
+        Path staging = null;
+        try {
+            staging = Files.createTempDirectory(root.resolve("tmp"), "artifact-");
+            copyTree(workspace, staging, workspace.resolve(sourceFile));
+            Files.createDirectories(entry.getParent());
+            moveIntoPlace(staging, entry);
+            staging = null;
+            stores.increment();
+            prune();
+        } catch (IOException e) {
+            log.warn("Failed to cache compiled artifacts {}", key, e);
+        } finally {
+            if (staging != null) {
+                FileSystemUtils.deleteRecursively(staging.toFile());
+            }
+        }
+    }
+
+    public CacheSnapshot snapshot() {
+        return new CacheSnapshot(countEntries(), hits.sum(), misses.sum(), stores.sum());
+    }
+
+    private Path pathFor(String key) {
+        return root.resolve(key.substring(0, 2)).resolve(key);
+    }
+
+    private void copyTree(Path source, Path target, Path excluded) throws IOException {
+        try (Stream<Path> files = Files.walk(source)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                if (file.equals(source) || file.equals(excluded)) {
+                    continue;
+                }
+                Path destination = target.resolve(source.relativize(file).toString());
+                if (Files.isDirectory(file)) {
+                    Files.createDirectories(destination);
+                } else if (Files.isRegularFile(file)) {
+                    Files.copy(file, destination, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.COPY_ATTRIBUTES);
+                }
+            }
+        }
+    }
+
+    private void moveIntoPlace(Path staging, Path entry) throws IOException {
+        try {
+            Files.move(staging, entry, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(staging, entry);
+        } catch (FileAlreadyExistsException e) {
+            FileSystemUtils.deleteRecursively(staging.toFile());
+        }
+    }
+
+    private synchronized void prune() throws IOException {
+        List<Path> entries = listEntries();
+        if (entries.size() <= maxEntries) {
+            return;
+        }
+        entries.stream()
+                .sorted(Comparator.comparing(this::lastModified))
+                .limit(entries.size() - maxEntries)
+                .forEach(entry -> FileSystemUtils.deleteRecursively(entry.toFile()));
+    }
+
+    private int countEntries() {
+        if (!enabled) {
+            return 0;
+        }
+        try {
+            return listEntries().size();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private List<Path> listEntries() throws IOException {
+        try (Stream<Path> shards = Files.list(root)) {
+            return shards.filter(shard -> !shard.getFileName().toString().equals("tmp") && Files.isDirectory(shard))
+                    .flatMap(shard -> {
+                        try {
+                            return Files.list(shard).toList().stream();
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    })
+                    .toList();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private FileTime lastModified(Path entry) {
+        try {
+            return Files.getLastModifiedTime(entry);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    public record CacheSnapshot(int entries, long hits, long misses, long stores) {
+    }
+}
@@ -0,0 +1,4 @@
+package ai.shodhai.judge.storage;
+
+public record StoredBlob(String digest, long size) {
+}
@@ -0,0 +1,236 @@
+package ai.shodhai.judge.storage;
+
+import jakarta.annotation.PostConstruct;
+import org.postgresql.PGConnection;
+import org.postgresql.largeobject.LargeObject;
+import org.postgresql.largeobject.LargeObjectManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+@Component
+public class TestDataStore {
+
+    private static final Logger log = LoggerFactory.getLogger(TestDataStore.class);
+    private static final Pattern DIGEST = Pattern.compile("[0-9a-f]{64}");
+
+    private final Path root;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate blobTransaction;
+    private final Set<String> published = ConcurrentHashMap.newKeySet();
+    private boolean shared;
+
+    public TestDataStore(@Value("${judge.test-data.directory:data/test-data}") Path root,
+                         JdbcTemplate jdbcTemplate,
+                         PlatformTransactionManager transactionManager) {
+        this.root = root.toAbsolutePath().normalize();
+        this.jdbcTemplate = jdbcTemplate;
+        this.blobTransaction = new TransactionTemplate(transactionManager);
+        this.blobTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        try {
+            Files.createDirectories(this.root.resolve("tmp"));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create test data directory " + this.root, e);
+        }
+    }
+
+    @PostConstruct
+    public void publishLocal() {
+        shared = Boolean.TRUE.equals(jdbcTemplate.execute(
+                (ConnectionCallback<Boolean>) connection -> connection.isWrapperFor(PGConnection.class)));
+        if (!shared) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(root, 2)) {
+            List<Path> blobs = files
+                    .filter(path -> Files.isRegularFile(path) && DIGEST.matcher(path.getFileName().toString()).matches())
+                    .toList();
+            if (blobs.isEmpty()) {
+                return;
+            }
+            published.addAll(jdbcTemplate.queryForList("SELECT digest FROM test_data_blobs", String.class));
+            for (Path blob : blobs) {
+                publish(blob.getFileName().toString(), blob);
+            }
+        } catch (IOException | DataAccessException e) {
+            log.warn("Could not publish local test data from {}: {}", root, e.getMessage());
+        }
+    }
+
+    public StoredBlob store(String content) {
+        try {
+            return store(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to store test data", e);
+        }
+    }
+
+    public StoredBlob store(InputStream content) throws IOException {
+        Path staging = Files.createTempFile(root.resolve("tmp"), "blob-", ".part");
+        try {
+            MessageDigest sha256 = newDigest();
+            long size;
+            try (InputStream in = new DigestInputStream(content, sha256);
+                 OutputStream out = Files.newOutputStream(staging)) {
+                size = in.transferTo(out);
+            }
+            String digest = HexFormat.of().formatHex(sha256.digest());
+            Path target = pathFor(digest);
+            if (!Files.exists(target)) {
+                Files.createDirectories(target.getParent());
+                moveIntoPlace(staging, target);
+            }
+            publish(digest, target);
+            return new StoredBlob(digest, size);
+        } finally {
+            Files.deleteIfExists(staging);
+        }
+    }
+
+    public Path resolve(String digest) {
+        if (digest == null || !DIGEST.matcher(digest).matches()) {
+            throw new IllegalArgumentException("Invalid test data digest: " + digest);
+        }
+        Path path = pathFor(digest);
+        try {
+            if (Files.isRegularFile(path)) {
+                publish(digest, path);
+            } else {
+                fetch(digest, path);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load test data " + digest, e);
+        }
+        return path;
+    }
+
+    private void publish(String digest, Path path) throws IOException {
+        if (!shared || published.contains(digest)) {
+            return;
+        }
+        long size = Files.size(path);
+        try {
+            blobTransaction.executeWithoutResult(status -> {
+                Integer present = jdbcTemplate.queryForObject(
+                        "SELECT COUNT(*) FROM test_data_blobs WHERE digest = ?", Integer.class, digest);
+                if (present == null || present == 0) {
+                    Long oid = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> writeLargeObject(connection, path));
+                    jdbcTemplate.update("INSERT INTO test_data_blobs (digest, size, content) VALUES (?, ?, ?)", digest, size, oid);
+                }
+            });
+        } catch (DuplicateKeyException e) {
+            log.debug("Test data {} was published concurrently", digest);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        published.add(digest);
+    }
+
+    private void fetch(String digest, Path target) throws IOException {
+        if (!shared) {
+            throw new IllegalStateException("Test data " + digest + " is missing from " + root);
+        }
+        Path staging = Files.createTempFile(root.resolve("tmp"), "blob-", ".part");
+        try {
+            Boolean found = blobTransaction.execute(status -> {
+                List<Long> oids = jdbcTemplate.queryForList("SELECT content FROM test_data_blobs WHERE digest = ?", Long.class, digest);
+                if (oids.isEmpty()) {
+                    return false;
+                }
+                String copied = jdbcTemplate.execute((ConnectionCallback<String>) connection -> readLargeObject(connection, oids.get(0), staging));
+                if (!digest.equals(copied)) {
+                    throw new IllegalStateException("Test data " + digest + " is corrupt in the database");
+                }
+                return true;
+            });
+            if (!Boolean.TRUE.equals(found)) {
+                throw new IllegalStateException("Test data " + digest + " is missing from " + root + " and the database");
+            }
+            Files.createDirectories(target.getParent());
+            moveIntoPlace(staging, target);
+            published.add(digest);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            Files.deleteIfExists(staging);
+        }
+    }
+
+    private long writeLargeObject(Connection connection, Path path) throws SQLException {
+        LargeObjectManager objects = connection.unwrap(PGConnection.class).getLargeObjectAPI();
+        long oid = objects.createLO(LargeObjectManager.READWRITE);
+        LargeObject object = objects.open(oid, LargeObjectManager.WRITE);
+        try (OutputStream out = object.getOutputStream();
+             InputStream in = Files.newInputStream(path)) {
+            in.transferTo(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to upload test data " + path, e);
+        }
+        return oid;
+    }
+
+    private String readLargeObject(Connection connection, long oid, Path staging) throws SQLException {
+        LargeObjectManager objects = connection.unwrap(PGConnection.class).getLargeObjectAPI();
+        LargeObject object = objects.open(oid, LargeObjectManager.READ);
+        MessageDigest sha256 = newDigest();
+        try (InputStream in = new DigestInputStream(object.getInputStream(), sha256);
+             OutputStream out = Files.newOutputStream(staging)) {
+            in.transferTo(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to copy test data object " + oid, e);
+        } finally {
+            object.close();
+        }
+        return HexFormat.of().formatHex(sha256.digest());
+    }
+
+    private Path pathFor(String digest) {
+        return root.resolve(digest.substring(0, 2)).resolve(digest);
+    }
+
+    private void moveIntoPlace(Path staging, Path target) throws IOException {
+        try {
+            Files.move(staging, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(staging, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+CREATE TABLE contests (
+    contest_id   VARCHAR(64)              NOT NULL,
+    name         VARCHAR(255)             NOT NULL,
+    description  VARCHAR(2000),
+    start_time   TIMESTAMP(6) WITH TIME ZONE,
+    end_time     TIMESTAMP(6) WITH TIME ZONE,
+    scoring_mode VARCHAR(16),
+    CONSTRAINT pk_contests PRIMARY KEY (contest_id),
+    CONSTRAINT ck_contests_scoring_mode CHECK (scoring_mode IN ('ICPC', 'IOI'))
+);
+
+CREATE TABLE contest_users (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    username     VARCHAR(128) NOT NULL,
+    display_name VARCHAR(128),
+    CONSTRAINT pk_contest_users PRIMARY KEY (id),
+    CONSTRAINT uk_contest_users_username UNIQUE (username)
+);
+
+CREATE TABLE problems (
+    problem_id      VARCHAR(64)  NOT NULL,
+    contest_id      VARCHAR(64),
+    title           VARCHAR(255) NOT NULL,
+    statement       VARCHAR(8000),
+    difficulty      VARCHAR(32),
+    checker_mode    VARCHAR(16),
+    checker_digest  VARCHAR(64),
+    float_tolerance DOUBLE PRECISION,
+    time_limit_ms   INTEGER,
+    memory_limit_mb INTEGER,
+    pids_limit      INTEGER,
+    output_limit_kb INTEGER,
+    version         BIGINT,
+    CONSTRAINT pk_problems PRIMARY KEY (problem_id),
+    CONSTRAINT fk_problems_contest FOREIGN KEY (contest_id) REFERENCES contests (contest_id),
+    CONSTRAINT ck_problems_checker_mode CHECK (checker_mode IN ('EXACT', 'TRIMMED', 'TOKENS', 'FLOAT', 'PROGRAM'))
+);
+
+CREATE TABLE test_cases (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    problem_id    VARCHAR(64) NOT NULL,
+    input_digest  VARCHAR(64) NOT NULL,
+    input_size    BIGINT      NOT NULL,
+    output_digest VARCHAR(64) NOT NULL,
+    output_size   BIGINT      NOT NULL,
+    is_sample     BOOLEAN,
+    CONSTRAINT pk_test_cases PRIMARY KEY (id),
+    CONSTRAINT fk_test_cases_problem FOREIGN KEY (problem_id) REFERENCES problems (problem_id)
+);
+
+CREATE TABLE submissions (
+    submission_id    UUID                        NOT NULL,
+    contest_id       VARCHAR(64)                 NOT NULL,
+    problem_id       VARCHAR(64)                 NOT NULL,
+    user_id          BIGINT                      NOT NULL,
+    language         VARCHAR(32)                 NOT NULL,
+    source_code      TEXT,
+    sample_only      BOOLEAN                     NOT NULL,
+    status           VARCHAR(32)                 NOT NULL,
+    verdict          VARCHAR(128),
+    score            DOUBLE PRECISION,
+    execution_time   DOUBLE PRECISION,
+    compile_time     DOUBLE PRECISION,
+    cpu_time         DOUBLE PRECISION,
+    peak_memory_kb   BIGINT,
+    lease_owner      VARCHAR(128),
+    lease_expires_at TIMESTAMP(6) WITH TIME ZONE,
+    created_at       TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    updated_at       TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    version          BIGINT,
+    CONSTRAINT pk_submissions PRIMARY KEY (submission_id),
+    CONSTRAINT fk_submissions_contest FOREIGN KEY (contest_id) REFERENCES contests (contest_id),
+    CONSTRAINT fk_submissions_problem FOREIGN KEY (problem_id) REFERENCES problems (problem_id),
+    CONSTRAINT fk_submissions_user FOREIGN KEY (user_id) REFERENCES contest_users (id),
+    CONSTRAINT ck_submissions_status CHECK (status IN ('QUEUED', 'RUNNING', 'ACCEPTED', 'WRONG_ANSWER', 'RUNTIME_ERROR',
+                                                      'COMPILE_ERROR', 'SYSTEM_ERROR'))
+);
+
+CREATE TABLE judge_nodes (
+    node_id        VARCHAR(128)                NOT NULL,
+    role           VARCHAR(16)                 NOT NULL,
+    workers        INTEGER                     NOT NULL,
+    busy_workers   INTEGER                     NOT NULL,
+    processed      BIGINT                      NOT NULL,
+    started_at     TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    last_heartbeat TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    CONSTRAINT pk_judge_nodes PRIMARY KEY (node_id),
+    CONSTRAINT ck_judge_nodes_role CHECK (role IN ('ALL', 'API', 'WORKER'))
+);
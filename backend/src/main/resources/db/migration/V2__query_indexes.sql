@@ -0,0 +1,13 @@
+CREATE INDEX idx_submissions_contest_user_created ON submissions (contest_id, user_id, created_at);
+
+CREATE INDEX idx_submissions_status_user_created ON submissions (status, user_id, created_at);
+
+CREATE INDEX idx_submissions_status_sample_created ON submissions (status, sample_only, created_at);
+
+CREATE INDEX idx_submissions_user_problem_status ON submissions (user_id, problem_id, status, created_at);
+
+CREATE INDEX idx_submissions_updated ON submissions (updated_at, submission_id);
+
+CREATE INDEX idx_problems_contest ON problems (contest_id);
+
+CREATE INDEX idx_test_cases_problem ON test_cases (problem_id);
@@ -0,0 +1,6 @@
+ALTER TABLE submissions DROP CONSTRAINT ck_submissions_status;
+
+ALTER TABLE submissions ADD CONSTRAINT ck_submissions_status CHECK (status IN ('QUEUED', 'RUNNING', 'ACCEPTED', 'WRONG_ANSWER',
+                                                                               'RUNTIME_ERROR', 'TIME_LIMIT_EXCEEDED',
+                                                                               'MEMORY_LIMIT_EXCEEDED', 'OUTPUT_LIMIT_EXCEEDED',
+                                                                               'COMPILE_ERROR', 'SYSTEM_ERROR'));
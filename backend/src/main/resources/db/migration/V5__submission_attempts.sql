@@ -0,0 +1 @@
+ALTER TABLE submissions ADD COLUMN attempts INT NOT NULL DEFAULT 0;
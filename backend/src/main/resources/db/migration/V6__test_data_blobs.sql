@@ -0,0 +1,6 @@
+CREATE TABLE test_data_blobs (
+    digest  VARCHAR(64) NOT NULL,
+    size    BIGINT      NOT NULL,
+    content BYTEA       NOT NULL,
+    CONSTRAINT pk_test_data_blobs PRIMARY KEY (digest)
+);
@@ -0,0 +1 @@
+ALTER TABLE test_data_blobs ALTER COLUMN content TYPE OID USING lo_from_bytea(0, content);
@@ -0,0 +1,82 @@
+package ai.shodhai.judge.catalog;
+
+import ai.shodhai.judge.domain.Problem;
+import ai.shodhai.judge.domain.TestCase;
+import ai.shodhai.judge.repository.ContestRepository;
+import ai.shodhai.judge.repository.ProblemRepository;
+import ai.shodhai.judge.storage.StoredBlob;
+import ai.shodhai.judge.storage.TestDataStore;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ProblemCatalogTest {
+
+    private static final String PROBLEM_ID = "catalog-version-fixture";
+
+    @Autowired
+    private ProblemCatalog problemCatalog;
+
+    @Autowired
+    private TestDataStore testDataStore;
+
+    @Autowired
+    private ContestRepository contestRepository;
+
+    @Autowired
+    private ProblemRepository problemRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void testCaseAndProblemChangesBumpTheVersionAndReachTheCatalog() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Problem problem = new Problem(PROBLEM_ID, "Catalog Version", "Fixture", "Easy");
+            problem.setContest(contestRepository.getReferenceById("winter-open"));
+            problem.getTestCases().add(testCase(problem, "1 2\n", "3", true));
+            problemRepository.save(problem);
+        });
+        CachedProblem original = problemCatalog.getProblem(PROBLEM_ID);
+        assertThat(problemCatalog.getProblem(PROBLEM_ID)).isSameAs(original);
+
+        CachedProblem added = change(original, problem -> problem.getTestCases().add(testCase(problem, "2 2\n", "4", false)));
+        assertThat(added.testCases()).hasSize(2);
+
+        StoredBlob output = testDataStore.store("5");
+        CachedProblem edited = change(added, problem -> {
+            problem.getTestCases().get(1).setOutputDigest(output.digest());
+            problem.getTestCases().get(1).setOutputSize(output.size());
+        });
+        assertThat(edited.testCases().get(1).expectedOutput()).isEqualTo(testDataStore.resolve(output.digest()));
+
+        CachedProblem removed = change(edited, problem -> problem.getTestCases().remove(1));
+        assertThat(removed.testCases()).hasSize(1);
+
+        CachedProblem retimed = change(removed, problem -> problem.setTimeLimitMillis(3000));
+        assertThat(retimed.timeLimitMillis()).isEqualTo(3000);
+    }
+
+    private CachedProblem change(CachedProblem previous, Consumer<Problem> change) {
+        transactionTemplate.executeWithoutResult(status -> change.accept(problemRepository.findById(PROBLEM_ID).orElseThrow()));
+        CachedProblem changed = problemCatalog.getProblem(PROBLEM_ID);
+        assertThat(changed.version()).isGreaterThan(previous.version());
+        return changed;
+    }
+
+    private TestCase testCase(Problem problem, String input, String output, boolean sample) {
+        StoredBlob inputBlob = testDataStore.store(input);
+        StoredBlob outputBlob = testDataStore.store(output);
+        TestCase testCase = new TestCase(inputBlob.digest(), inputBlob.size(), outputBlob.digest(), outputBlob.size(), sample);
+        testCase.setProblem(problem);
+        return testCase;
+    }
+}
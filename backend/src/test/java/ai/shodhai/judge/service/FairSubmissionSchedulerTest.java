@@ -0,0 +1,108 @@
+package ai.shodhai.judge.service;
+
+import ai.shodhai.judge.repository.QueuedSubmission;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FairSubmissionSchedulerTest {
+
+    private final Instant start = Instant.parse("2024-01-01T00:00:00Z");
+    private int sequence;
+
+    @Test
+    void usersTakeTurnsInsteadOfFirstComeFirstServed() {
+        FairSubmissionScheduler scheduler = new FairSubmissionScheduler(Map.of());
+        List<QueuedSubmission> candidates = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            candidates.add(candidate("contest", 1L, false));
+        }
+        candidates.add(candidate("contest", 2L, false));
+        candidates.add(candidate("contest", 3L, false));
+
+        List<QueuedSubmission> selected = scheduler.select(candidates, 4);
+
+        assertThat(selected).extracting(QueuedSubmission::getUserId).containsExactly(1L, 2L, 3L, 1L);
+        assertThat(selected.get(0)).isSameAs(candidates.get(0));
+        assertThat(selected.get(3)).isSameAs(candidates.get(1));
+    }
+
+    @Test
+    void passesCarryOverBetweenSelections() {
+        FairSubmissionScheduler scheduler = new FairSubmissionScheduler(Map.of());
+        List<QueuedSubmission> candidates = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            candidates.add(candidate("contest", 1L, false));
+        }
+        candidates.add(candidate("contest", 2L, false));
+
+        assertThat(scheduler.select(candidates, 1)).extracting(QueuedSubmission::getUserId).containsExactly(1L);
+        List<QueuedSubmission> remaining = candidates.subList(1, candidates.size());
+        assertThat(scheduler.select(remaining, 1)).extracting(QueuedSubmission::getUserId).containsExactly(2L);
+    }
+
+    @Test
+    void sampleRunsAreServedBeforeFullSubmissions() {
+        FairSubmissionScheduler scheduler = new FairSubmissionScheduler(Map.of());
+        List<QueuedSubmission> candidates = List.of(
+                candidate("contest", 1L, false),
+                candidate("contest", 2L, false),
+                candidate("contest", 3L, true));
+
+        assertThat(scheduler.select(candidates, 2)).extracting(QueuedSubmission::getUserId).containsExactly(3L, 1L);
+    }
+
+    @Test
+    void contestsShareWorkByWeight() {
+        FairSubmissionScheduler scheduler = new FairSubmissionScheduler(Map.of("heavy", 2.0));
+        List<QueuedSubmission> candidates = new ArrayList<>();
+        for (long user = 1; user <= 6; user++) {
+            candidates.add(candidate("heavy", user, false));
+            candidates.add(candidate("light", 100 + user, false));
+        }
+
+        List<QueuedSubmission> selected = scheduler.select(candidates, 6);
+
+        assertThat(selected).filteredOn(submission -> submission.getContestId().equals("heavy")).hasSize(4);
+        assertThat(selected).filteredOn(submission -> submission.getContestId().equals("light")).hasSize(2);
+    }
+
+    private QueuedSubmission candidate(String contestId, long userId, boolean sampleOnly) {
+        return new Candidate(UUID.randomUUID(), contestId, userId, sampleOnly, start.plusSeconds(sequence++));
+    }
+
+    private record Candidate(UUID id, String contestId, Long userId, boolean sampleOnly, Instant createdAt)
+            implements QueuedSubmission {
+
+        @Override
+        public UUID getId() {
+            return id;
+        }
+
+        @Override
+        public String getContestId() {
+            return contestId;
+        }
+
+        @Override
+        public Long getUserId() {
+            return userId;
+        }
+
+        @Override
+        public boolean isSampleOnly() {
+            return sampleOnly;
+        }
+
+        @Override
+        public Instant getCreatedAt() {
+            return createdAt;
+        }
+    }
+}
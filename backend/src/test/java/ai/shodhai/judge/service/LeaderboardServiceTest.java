@@ -0,0 +1,173 @@
+package ai.shodhai.judge.service;
+
+import ai.shodhai.judge.domain.Contest;
+import ai.shodhai.judge.domain.ContestUser;
+import ai.shodhai.judge.domain.Problem;
+import ai.shodhai.judge.domain.ScoringMode;
+import ai.shodhai.judge.domain.Submission;
+import ai.shodhai.judge.domain.SubmissionStatus;
+import ai.shodhai.judge.dto.LeaderboardEntryResponse;
+import ai.shodhai.judge.repository.ContestRepository;
+import ai.shodhai.judge.repository.ContestUserRepository;
+import ai.shodhai.judge.repository.ProblemRepository;
+import ai.shodhai.judge.repository.SubmissionRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class LeaderboardServiceTest {
+
+    @Autowired
+    private LeaderboardService leaderboardService;
+
+    @Autowired
+    private ContestRepository contestRepository;
+
+    @Autowired
+    private ProblemRepository problemRepository;
+
+    @Autowired
+    private ContestUserRepository contestUserRepository;
+
+    @Autowired
+    private SubmissionRepository submissionRepository;
+
+    @Test
+    void icpcStandingsMatchTheRebuiltBoard() throws InterruptedException {
+        String contestId = createContest("parity-icpc", ScoringMode.ICPC);
+        List<SubmissionJudgedEvent> submissions = new ArrayList<>();
+        submissions.add(submit(contestId, "p1", "alice", SubmissionStatus.WRONG_ANSWER, 0.0, 0.1, false));
+        submissions.add(submit(contestId, "p1", "alice", SubmissionStatus.TIME_LIMIT_EXCEEDED, 0.0, 1.0, false));
+        submissions.add(submit(contestId, "p1", "alice", SubmissionStatus.ACCEPTED, 1.0, 0.2, false));
+        submissions.add(submit(contestId, "p1", "alice", SubmissionStatus.WRONG_ANSWER, 0.0, 0.1, false));
+        submissions.add(submit(contestId, "p1", "bob", SubmissionStatus.ACCEPTED, 1.0, 0.3, false));
+        submissions.add(submit(contestId, "p2", "bob", SubmissionStatus.RUNTIME_ERROR, 0.0, 0.1, false));
+        submissions.add(submit(contestId, "p2", "bob", SubmissionStatus.COMPILE_ERROR, 0.0, null, false));
+        submissions.add(submit(contestId, "p2", "bob", SubmissionStatus.ACCEPTED, 1.0, 0.4, false));
+        submissions.add(submit(contestId, "p1", "carol", SubmissionStatus.ACCEPTED, 1.0, 0.1, true));
+        submissions.add(submit(contestId, "p1", "carol", SubmissionStatus.WRONG_ANSWER, 0.0, 0.1, false));
+        submissions.add(submit(contestId, "p2", "dave", SubmissionStatus.OUTPUT_LIMIT_EXCEEDED, 0.0, 0.1, false));
+        submissions.add(submit(contestId, "p2", "dave", SubmissionStatus.ACCEPTED, 1.0, 0.5, false));
+        submissions.add(submit(contestId, "p2", "dave", SubmissionStatus.ACCEPTED, 1.0, 0.2, false));
+
+        List<LeaderboardEntryResponse> incremental = judgeInOrder(contestId, reversed(submissions));
+
+        assertThat(incremental).extracting(LeaderboardEntryResponse::username)
+                .containsExactly("bob", "dave", "alice", "carol");
+        LeaderboardEntryResponse alice = incremental.get(2);
+        assertThat(alice.score()).isEqualTo(1.0);
+        assertThat(alice.time()).isEqualTo(incremental.get(1).time() + 20 * 60);
+        assertThat(rebuilt(contestId)).isEqualTo(incremental);
+    }
+
+    @Test
+    void ioiStandingsMatchTheRebuiltBoard() throws InterruptedException {
+        String contestId = createContest("parity-ioi", ScoringMode.IOI);
+        List<SubmissionJudgedEvent> submissions = new ArrayList<>();
+        submissions.add(submit(contestId, "p1", "alice", SubmissionStatus.WRONG_ANSWER, 0.5, 0.5, false));
+        submissions.add(submit(contestId, "p1", "alice", SubmissionStatus.ACCEPTED, 1.0, 0.5, false));
+        submissions.add(submit(contestId, "p2", "alice", SubmissionStatus.WRONG_ANSWER, 0.25, 0.25, false));
+        submissions.add(submit(contestId, "p1", "bob", SubmissionStatus.ACCEPTED, 1.0, 0.25, false));
+        submissions.add(submit(contestId, "p2", "bob", SubmissionStatus.RUNTIME_ERROR, 0.0, 0.25, false));
+        submissions.add(submit(contestId, "p1", "carol", SubmissionStatus.WRONG_ANSWER, 0.75, 0.5, false));
+        submissions.add(submit(contestId, "p2", "carol", SubmissionStatus.ACCEPTED, 1.0, 0.5, true));
+
+        List<LeaderboardEntryResponse> incremental = judgeInOrder(contestId, shuffled(submissions, 7));
+
+        assertThat(incremental).extracting(LeaderboardEntryResponse::username).containsExactly("alice", "bob", "carol");
+        assertThat(incremental).extracting(LeaderboardEntryResponse::score).containsExactly(125.0, 100.0, 75.0);
+        assertThat(rebuilt(contestId)).isEqualTo(incremental);
+    }
+
+    @Test
+    void randomJudgingOrderMatchesTheRebuiltBoard() throws InterruptedException {
+        Random random = new Random(42);
+        SubmissionStatus[] statuses = {SubmissionStatus.ACCEPTED, SubmissionStatus.WRONG_ANSWER,
+                SubmissionStatus.RUNTIME_ERROR, SubmissionStatus.TIME_LIMIT_EXCEEDED, SubmissionStatus.COMPILE_ERROR};
+        for (ScoringMode mode : ScoringMode.values()) {
+            String contestId = createContest("parity-random-" + mode.name().toLowerCase(), mode);
+            List<SubmissionJudgedEvent> submissions = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                SubmissionStatus status = statuses[random.nextInt(statuses.length)];
+                double score = status == SubmissionStatus.ACCEPTED ? 1.0 : random.nextInt(4) / 4.0;
+                submissions.add(submit(contestId, "p" + random.nextInt(3), "user" + random.nextInt(6), status, score,
+                        random.nextInt(8) / 8.0, random.nextInt(10) == 0));
+            }
+
+            List<LeaderboardEntryResponse> incremental = judgeInOrder(contestId, shuffled(submissions, random.nextLong()));
+
+            assertThat(rebuilt(contestId)).as(mode.name()).isEqualTo(incremental);
+        }
+    }
+
+    private String createContest(String contestId, ScoringMode mode) {
+        Contest contest = new Contest(contestId, contestId, "Leaderboard parity fixture");
+        contest.setScoringMode(mode);
+        contest.setStartTime(Instant.now().minus(Duration.ofHours(3)));
+        contestRepository.save(contest);
+        for (String problemId : List.of("p0", "p1", "p2")) {
+            Problem problem = new Problem(contestId + "-" + problemId, problemId, "Fixture", "Easy");
+            problem.setContest(contest);
+            problemRepository.save(problem);
+        }
+        leaderboardService.rebuild();
+        return contestId;
+    }
+
+    private SubmissionJudgedEvent submit(String contestId, String problemId, String username, SubmissionStatus status,
+                              double score, Double executionTime, boolean sampleOnly) throws InterruptedException {
+        ContestUser user = contestUserRepository.findByUsernameIgnoreCase(username)
+                .orElseGet(() -> contestUserRepository.save(new ContestUser(username, username)));
+        Submission submission = new Submission();
+        submission.setContest(contestRepository.getReferenceById(contestId));
+        submission.setProblem(problemRepository.getReferenceById(contestId + "-" + problemId));
+        submission.setUser(user);
+        submission.setLanguage("python");
+        submission.setSourceCode("print(0)");
+        submission.setSampleOnly(sampleOnly);
+        submission.setStatus(status);
+        submission.setVerdict(status.getDisplayName());
+        submission.setScore(score);
+        submission.setExecutionTime(executionTime);
+        UUID id = submissionRepository.save(submission).getId();
+        Thread.sleep(2);
+        Instant submittedAt = submissionRepository.findById(id).orElseThrow().getCreatedAt();
+        return new SubmissionJudgedEvent(id, contestId, contestId + "-" + problemId, username, status,
+                status.getDisplayName(), score, executionTime, null, null, sampleOnly, submittedAt);
+    }
+
+    private List<LeaderboardEntryResponse> judgeInOrder(String contestId, List<SubmissionJudgedEvent> events) {
+        events.forEach(leaderboardService::onSubmissionJudged);
+        return leaderboardService.getLeaderboard(contestId, 0, 100);
+    }
+
+    private List<LeaderboardEntryResponse> rebuilt(String contestId) {
+        leaderboardService.rebuild();
+        return leaderboardService.getLeaderboard(contestId, 0, 100);
+    }
+
+    private List<SubmissionJudgedEvent> reversed(List<SubmissionJudgedEvent> events) {
+        List<SubmissionJudgedEvent> reversed = new ArrayList<>(events);
+        Collections.reverse(reversed);
+        return reversed;
+    }
+
+    private List<SubmissionJudgedEvent> shuffled(List<SubmissionJudgedEvent> events, long seed) {
+        List<SubmissionJudgedEvent> shuffled = new ArrayList<>(events);
+        Collections.shuffle(shuffled, new Random(seed));
+        return shuffled;
+    }
+}
@@ -0,0 +1,94 @@
+package ai.shodhai.judge.service;
+
+import ai.shodhai.judge.catalog.CachedProblem;
+import ai.shodhai.judge.catalog.CachedTestCase;
+import ai.shodhai.judge.domain.CheckerMode;
+import ai.shodhai.judge.domain.ScoringMode;
+import ai.shodhai.judge.domain.Submission;
+import ai.shodhai.judge.service.JudgeExecutionService.ExecutionSummary;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {"judge.tests.parallel.enabled=true", "judge.tests.parallel.threads=4"})
+@ActiveProfiles("test")
+class ParallelJudgingTest {
+
+    private static final String SOURCE = String.join("\n",
+            "import sys, time",
+            "mode, seconds = input().split()",
+            "time.sleep(float(seconds))",
+            "if mode == 'crash':",
+            "    sys.exit(3)",
+            "print('wrong' if mode == 'wrong' else 'ok')",
+            "");
+
+    @Autowired
+    private JudgeExecutionService judgeExecutionService;
+
+    @TempDir
+    private Path testData;
+
+    @Test
+    void anEarlyFailureCancelsTheLaterTests() throws IOException {
+        CachedProblem problem = problem("parallel-cancel", "wrong 0", "ok 5", "ok 5", "ok 5", "ok 5", "ok 5");
+
+        long start = System.nanoTime();
+        ExecutionSummary summary = judgeExecutionService.judgeSubmission(submission(), problem);
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+        assertThat(summary.accepted()).isFalse();
+        assertThat(summary.verdict()).startsWith("Wrong Answer");
+        assertThat(elapsedSeconds).isLessThan(4.0);
+    }
+
+    @Test
+    void theVerdictFollowsTestOrderNotCompletionOrder() throws IOException {
+        CachedProblem problem = problem("parallel-order", "ok 0", "crash 1", "wrong 0", "ok 0");
+
+        ExecutionSummary summary = judgeExecutionService.judgeSubmission(submission(), problem);
+
+        assertThat(summary.accepted()).isFalse();
+        assertThat(summary.verdict()).startsWith("Runtime Error");
+    }
+
+    @Test
+    void allPassingTestsAreAccepted() throws IOException {
+        CachedProblem problem = problem("parallel-accept", "ok 1", "ok 1", "ok 1", "ok 1");
+
+        long start = System.nanoTime();
+        ExecutionSummary summary = judgeExecutionService.judgeSubmission(submission(), problem);
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+        assertThat(summary.accepted()).isTrue();
+        assertThat(elapsedSeconds).isLessThan(3.5);
+    }
+
+    private Submission submission() {
+        Submission submission = new Submission();
+        submission.setLanguage("python");
+        submission.setSourceCode(SOURCE);
+        return submission;
+    }
+
+    private CachedProblem problem(String id, String... inputs) throws IOException {
+        List<CachedTestCase> testCases = new ArrayList<>();
+        for (int i = 0; i < inputs.length; i++) {
+            Path input = Files.writeString(testData.resolve(id + "-" + i + ".in"), inputs[i] + "\n");
+            Path output = Files.writeString(testData.resolve(id + "-" + i + ".out"), "ok\n");
+            testCases.add(new CachedTestCase((long) i, input, Files.size(input), output, Files.size(output), false));
+        }
+        return new CachedProblem(id, 1, null, ScoringMode.ICPC, id, "", "Easy", CheckerMode.TOKENS, null, null,
+                10000, 256, null, null, testCases);
+    }
+}
@@ -0,0 +1,62 @@
+package ai.shodhai.judge.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RankedSkipListTest {
+
+    @Test
+    void matchesASortedSetUnderRandomOperations() {
+        Random random = new Random(20240101L);
+        RankedSkipList<Integer> list = new RankedSkipList<>(Comparator.naturalOrder());
+        TreeSet<Integer> expected = new TreeSet<>();
+
+        for (int operation = 0; operation < 20_000; operation++) {
+            int value = random.nextInt(2_000);
+            if (random.nextInt(3) == 0) {
+                assertThat(list.remove(value)).isEqualTo(expected.remove(value));
+            } else {
+                assertThat(list.add(value)).isEqualTo(expected.add(value));
+            }
+            assertThat(list.size()).isEqualTo(expected.size());
+
+            if (operation % 97 == 0) {
+                assertSameOrder(list, expected, random);
+            }
+        }
+        assertSameOrder(list, expected, random);
+    }
+
+    @Test
+    void positionsAreOneBasedAndMissingValuesHaveNone() {
+        RankedSkipList<String> list = new RankedSkipList<>(Comparator.naturalOrder());
+        list.add("carol");
+        list.add("alice");
+        list.add("bob");
+
+        assertThat(list.position("alice")).isEqualTo(1);
+        assertThat(list.position("carol")).isEqualTo(3);
+        assertThat(list.position("dave")).isZero();
+        assertThat(list.range(1, 5)).containsExactly("bob", "carol");
+        assertThat(list.range(3, 1)).isEmpty();
+        assertThat(list.range(-1, 1)).isEmpty();
+    }
+
+    private void assertSameOrder(RankedSkipList<Integer> list, TreeSet<Integer> expected, Random random) {
+        List<Integer> sorted = new ArrayList<>(expected);
+        assertThat(list.range(0, sorted.size() + 1)).isEqualTo(sorted);
+        for (int i = 0; i < 20 && !sorted.isEmpty(); i++) {
+            int index = random.nextInt(sorted.size());
+            assertThat(list.position(sorted.get(index))).isEqualTo(index + 1);
+            int count = 1 + random.nextInt(10);
+            assertThat(list.range(index, count)).isEqualTo(sorted.subList(index, Math.min(sorted.size(), index + count)));
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package ai.shodhai.judge.service;
+
+import ai.shodhai.judge.domain.Submission;
+import ai.shodhai.judge.domain.SubmissionStatus;
+import ai.shodhai.judge.dto.SubmissionRequest;
+import ai.shodhai.judge.repository.SubmissionChange;
+import ai.shodhai.judge.repository.SubmissionRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class SubmissionLeaseTest {
+
+    private static final Duration LEASE = Duration.ofMinutes(5);
+    private static final Duration EXPIRED = Duration.ofSeconds(-1);
+    private static final int MAX_ATTEMPTS = 3;
+
+    @Autowired
+    private SubmissionService submissionService;
+
+    @Autowired
+    private SubmissionRepository submissionRepository;
+
+    @Test
+    void claimIsExclusiveUntilReleased() {
+        UUID id = submit("lease-claim");
+
+        assertThat(submissionService.claim("node-a", List.of(id), LEASE)).containsExactly(id);
+        assertThat(submissionService.claim("node-b", List.of(id), LEASE)).isEmpty();
+
+        Submission claimed = reload(id);
+        assertThat(claimed.getStatus()).isEqualTo(SubmissionStatus.RUNNING);
+        assertThat(claimed.getLeaseOwner()).isEqualTo("node-a");
+        assertThat(claimed.getAttempts()).isEqualTo(1);
+
+        assertThat(submissionService.releaseLeases("node-b", List.of(id))).isZero();
+        assertThat(submissionService.releaseLeases("node-a", List.of(id))).isEqualTo(1);
+
+        Submission released = reload(id);
+        assertThat(released.getStatus()).isEqualTo(SubmissionStatus.QUEUED);
+        assertThat(released.getLeaseOwner()).isNull();
+        assertThat(released.getAttempts()).isZero();
+        assertThat(submissionService.claim("node-b", List.of(id), LEASE)).containsExactly(id);
+    }
+
+    @Test
+    void onlyTheOwnerRenewsALease() {
+        UUID id = submit("lease-renew");
+        submissionService.claim("node-a", List.of(id), Duration.ofSeconds(30));
+        Instant before = reload(id).getLeaseExpiresAt();
+
+        assertThat(submissionService.renewLeases("node-b", List.of(id), LEASE)).isZero();
+        assertThat(reload(id).getLeaseExpiresAt()).isEqualTo(before);
+
+        assertThat(submissionService.renewLeases("node-a", List.of(id), LEASE)).isEqualTo(1);
+        assertThat(reload(id).getLeaseExpiresAt()).isAfter(before);
+    }
+
+    @Test
+    void expiredLeasesAreRequeuedUntilAttemptsRunOut() {
+        UUID id = submit("lease-expiry");
+        UUID live = submit("lease-live");
+        submissionService.claim("node-live", List.of(live), LEASE);
+
+        for (int attempt = 1; attempt < MAX_ATTEMPTS; attempt++) {
+            assertThat(submissionService.claim("node-" + attempt, List.of(id), EXPIRED)).containsExactly(id);
+            submissionService.requeueExpiredLeases(MAX_ATTEMPTS);
+
+            Submission requeued = reload(id);
+            assertThat(requeued.getStatus()).isEqualTo(SubmissionStatus.QUEUED);
+            assertThat(requeued.getLeaseOwner()).isNull();
+            assertThat(requeued.getAttempts()).isEqualTo(attempt);
+        }
+
+        submissionService.claim("node-last", List.of(id), EXPIRED);
+        submissionService.requeueExpiredLeases(MAX_ATTEMPTS);
+        assertThat(reload(id).getStatus()).isEqualTo(SubmissionStatus.RUNNING);
+
+        assertThat(submissionService.failExhaustedLeases(MAX_ATTEMPTS, "System Error: exhausted")).contains(id);
+        Submission failed = reload(id);
+        assertThat(failed.getStatus()).isEqualTo(SubmissionStatus.SYSTEM_ERROR);
+        assertThat(failed.getVerdict()).isEqualTo("System Error: exhausted");
+        assertThat(failed.getLeaseOwner()).isNull();
+
+        Submission untouched = reload(live);
+        assertThat(untouched.getStatus()).isEqualTo(SubmissionStatus.RUNNING);
+        assertThat(untouched.getLeaseOwner()).isEqualTo("node-live");
+    }
+
+    @Test
+    void abandonedLeasesAreRetriedThenFailed() {
+        UUID id = submit("lease-abandon");
+
+        for (int attempt = 1; attempt < MAX_ATTEMPTS; attempt++) {
+            submissionService.claim("node-a", List.of(id), LEASE);
+            assertThat(submissionService.abandonLease("node-b", id, MAX_ATTEMPTS, "failed")).isNull();
+            assertThat(submissionService.abandonLease("node-a", id, MAX_ATTEMPTS, "failed")).isEqualTo(SubmissionStatus.QUEUED);
+        }
+
+        submissionService.claim("node-a", List.of(id), LEASE);
+        assertThat(submissionService.abandonLease("node-a", id, MAX_ATTEMPTS, "failed")).isEqualTo(SubmissionStatus.SYSTEM_ERROR);
+        assertThat(reload(id).getAttempts()).isEqualTo(MAX_ATTEMPTS);
+        assertThat(submissionService.claim("node-a", List.of(id), LEASE)).isEmpty();
+    }
+
+    @Test
+    void changeFeedPagesThroughRowsSharingATimestamp() {
+        List<UUID> ids = List.of(submit("feed-a"), submit("feed-b"), submit("feed-c"));
+        submissionService.claim("node-a", ids, LEASE);
+        Instant stamped = reload(ids.get(0)).getUpdatedAt();
+        assertThat(ids).allSatisfy(id -> assertThat(reload(id).getUpdatedAt()).isEqualTo(stamped));
+
+        List<UUID> seen = new ArrayList<>();
+        Instant cursor = stamped.minusNanos(1000);
+        UUID cursorId = new UUID(0L, 0L);
+        List<SubmissionChange> page;
+        while (!(page = submissionService.findChangedSince(cursor, cursorId, 1)).isEmpty()) {
+            SubmissionChange change = page.get(0);
+            seen.add(change.getId());
+            cursor = change.getUpdatedAt();
+            cursorId = change.getId();
+        }
+
+        assertThat(seen).containsAll(ids).doesNotHaveDuplicates();
+    }
+
+    private UUID submit(String username) {
+        return submissionService.createSubmission(new SubmissionRequest(
+                "winter-open", "warmup-sum", username, "python", "print(0)", false)).getId();
+    }
+
+    private Submission reload(UUID id) {
+        return submissionRepository.findById(id).orElseThrow();
+    }
+}
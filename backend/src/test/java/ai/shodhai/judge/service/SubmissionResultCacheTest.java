@@ -0,0 +1,71 @@
+package ai.shodhai.judge.service;
+
+import ai.shodhai.judge.catalog.CachedProblem;
+import ai.shodhai.judge.catalog.CachedTestCase;
+import ai.shodhai.judge.domain.CheckerMode;
+import ai.shodhai.judge.domain.ScoringMode;
+import ai.shodhai.judge.runtime.LanguageRuntime;
+import ai.shodhai.judge.service.JudgeExecutionService.ExecutionSummary;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SubmissionResultCacheTest {
+
+    private static final String SOURCE = "print(sum(map(int, input().split())))";
+
+    private final SubmissionResultCache cache = new SubmissionResultCache(true, 16);
+    private final LanguageRuntime python = new LanguageRuntime("python", List.of(), "Main.py", List.of(),
+            List.of("python3", "Main.py"), List.of("python3", "Main.py"), 1.0, null, Map.of(), Map.of());
+
+    @Test
+    void identicalSubmissionsShareAKey() {
+        CachedProblem problem = problem(1, 2000, testCase("in-1", "out-1"));
+        String key = cache.keyFor(python, SOURCE, problem, problem.testCases(), false);
+        cache.put(key, ExecutionSummary.accepted(0.1, "Accepted"));
+
+        assertThat(cache.keyFor(python, SOURCE, problem(1, 2000, testCase("in-1", "out-1")), problem.testCases(), false))
+                .isEqualTo(key);
+        assertThat(cache.get(key)).isPresent();
+    }
+
+    @Test
+    void problemVersionsLimitsAndTestDataChangeTheKey() {
+        CachedProblem problem = problem(1, 2000, testCase("in-1", "out-1"));
+        String key = key(problem);
+
+        assertThat(key(problem(2, 2000, testCase("in-1", "out-1")))).isNotEqualTo(key);
+        assertThat(key(problem(1, 3000, testCase("in-1", "out-1")))).isNotEqualTo(key);
+        assertThat(key(problem(1, 2000, testCase("in-1", "out-2")))).isNotEqualTo(key);
+        assertThat(key(problem(1, 2000, testCase("in-1", "out-1"), testCase("in-2", "out-2")))).isNotEqualTo(key);
+        assertThat(cache.keyFor(python, SOURCE + "\n", problem, problem.testCases(), false)).isNotEqualTo(key);
+        assertThat(cache.keyFor(python, SOURCE, problem, problem.sampleTestCases(), true)).isNotEqualTo(key);
+    }
+
+    @Test
+    void onlyDeterministicVerdictsAreStored() {
+        CachedProblem problem = problem(1, 2000, testCase("in-1", "out-1"));
+        String key = key(problem);
+
+        cache.put(key, ExecutionSummary.failed("Time Limit Exceeded", 1.0, "Execution exceeded time limit"));
+
+        assertThat(cache.get(key)).isEmpty();
+    }
+
+    private String key(CachedProblem problem) {
+        return cache.keyFor(python, SOURCE, problem, problem.testCases(), false);
+    }
+
+    private CachedProblem problem(long version, int timeLimitMillis, CachedTestCase... testCases) {
+        return new CachedProblem("cache-key", version, "contest", ScoringMode.ICPC, "Cache Key", "Fixture", "Easy",
+                CheckerMode.TRIMMED, null, null, timeLimitMillis, 256, 64, 1024, List.of(testCases));
+    }
+
+    private CachedTestCase testCase(String input, String output) {
+        return new CachedTestCase(null, Path.of("test-data", input), 4, Path.of("test-data", output), 1, true);
+    }
+}
@@ -0,0 +1,77 @@
+package ai.shodhai.judge.service;
+
+import ai.shodhai.judge.domain.Submission;
+import ai.shodhai.judge.domain.SubmissionStatus;
+import ai.shodhai.judge.dto.SubmissionRequest;
+import ai.shodhai.judge.repository.SubmissionRepository;
+import ai.shodhai.judge.service.SubmissionResultWriter.VerdictUpdate;
+import ai.shodhai.judge.service.SubmissionResultWriter.WriterSnapshot;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class SubmissionResultWriterTest {
+
+    @Autowired
+    private SubmissionService submissionService;
+
+    @Autowired
+    private SubmissionRepository submissionRepository;
+
+    @Autowired
+    private SubmissionResultWriter writer;
+
+    @Test
+    void verdictFromAnExpiredLeaseIsDiscarded() throws InterruptedException {
+        Submission submission = submissionService.createSubmission(new SubmissionRequest(
+                "winter-open", "warmup-sum", "fencing", "python", "print(0)", false));
+        UUID id = submission.getId();
+        submissionService.claim("node-stale", List.of(id), Duration.ofSeconds(-1));
+        submissionService.requeueExpiredLeases(3);
+        assertThat(submissionService.claim("node-current", List.of(id), Duration.ofMinutes(5))).containsExactly(id);
+
+        WriterSnapshot before = writer.snapshot();
+        writer.write(verdict(id, "node-stale", SubmissionStatus.WRONG_ANSWER), event(submission, SubmissionStatus.WRONG_ANSWER));
+        awaitSnapshot(snapshot -> snapshot.stale() > before.stale());
+
+        Submission afterStale = submissionRepository.findById(id).orElseThrow();
+        assertThat(afterStale.getStatus()).isEqualTo(SubmissionStatus.RUNNING);
+        assertThat(afterStale.getLeaseOwner()).isEqualTo("node-current");
+
+        writer.write(verdict(id, "node-current", SubmissionStatus.ACCEPTED), event(submission, SubmissionStatus.ACCEPTED));
+        awaitSnapshot(snapshot -> snapshot.written() > before.written());
+
+        Submission judged = submissionRepository.findById(id).orElseThrow();
+        assertThat(judged.getStatus()).isEqualTo(SubmissionStatus.ACCEPTED);
+        assertThat(judged.getLeaseOwner()).isNull();
+        assertThat(writer.snapshot().stale()).isEqualTo(before.stale() + 1);
+    }
+
+    private VerdictUpdate verdict(UUID id, String owner, SubmissionStatus status) {
+        return new VerdictUpdate(id, owner, status, status.name(), status == SubmissionStatus.ACCEPTED ? 1.0 : 0.0,
+                0.1, 0.0, 0.1, 1024L);
+    }
+
+    private SubmissionJudgedEvent event(Submission submission, SubmissionStatus status) {
+        return new SubmissionJudgedEvent(submission.getId(), "winter-open", "warmup-sum", "fencing", status, status.name(),
+                status == SubmissionStatus.ACCEPTED ? 1.0 : 0.0, 0.1, 0.1, 1024L, false, submission.getCreatedAt());
+    }
+
+    private void awaitSnapshot(Predicate<WriterSnapshot> condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (!condition.test(writer.snapshot())) {
+            assertThat(System.nanoTime()).as("writer did not flush in time").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+}
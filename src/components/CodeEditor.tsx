@@ -12,6 +12,8 @@ const LANGUAGE_LABELS: Record<string, string> = {
   python: "Python",
   cpp: "C++",
   java: "Java",
+  go: "Go",
+  rust: "Rust",
   javascript: "JavaScript"
 };
 
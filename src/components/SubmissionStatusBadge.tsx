@@ -6,7 +6,14 @@ const statusStyles: Record<string, string> = {
   Pending: "bg-amber-500/20 text-amber-200 border-amber-500/40",
   Queued: "bg-amber-500/20 text-amber-200 border-amber-500/40",
   Rejected: "bg-rose-500/20 text-rose-200 border-rose-500/40",
-  Failed: "bg-rose-500/20 text-rose-200 border-rose-500/40"
+  Failed: "bg-rose-500/20 text-rose-200 border-rose-500/40",
+  "Wrong Answer": "bg-rose-500/20 text-rose-200 border-rose-500/40",
+  "Runtime Error": "bg-rose-500/20 text-rose-200 border-rose-500/40",
+  "Time Limit Exceeded": "bg-orange-500/20 text-orange-200 border-orange-500/40",
+  "Memory Limit Exceeded": "bg-orange-500/20 text-orange-200 border-orange-500/40",
+  "Output Limit Exceeded": "bg-orange-500/20 text-orange-200 border-orange-500/40",
+  "Compile Error": "bg-violet-500/20 text-violet-200 border-violet-500/40",
+  "System Error": "bg-slate-700/40 text-slate-200 border-slate-500/40"
 };
 
 export interface SubmissionStatusBadgeProps {
@@ -0,0 +1,70 @@
+import { useEffect, useRef, useState } from "react";
+
+type EventHandlers = Record<string, (data: unknown) => void>;
+
+type UseEventStreamOptions = {
+  enabled?: boolean;
+  onOpen?: () => void;
+};
+
+export type EventStreamState = "idle" | "connecting" | "open" | "error";
+
+export function useEventStream(
+  url: string | null,
+  handlers: EventHandlers,
+  { enabled = true, onOpen }: UseEventStreamOptions = {}
+): EventStreamState {
+  const savedHandlers = useRef<EventHandlers>(handlers);
+  const savedOnOpen = useRef<(() => void) | undefined>(onOpen);
+  const [state, setState] = useState<EventStreamState>("idle");
+
+  useEffect(() => {
+    savedHandlers.current = handlers;
+    savedOnOpen.current = onOpen;
+  }, [handlers, onOpen]);
+
+  const eventNames = Object.keys(handlers).sort().join(",");
+
+  useEffect(() => {
+    if (!enabled || !url) {
+      setState("idle");
+      return;
+    }
+
+    if (typeof EventSource === "undefined") {
+      setState("error");
+      return;
+    }
+
+    const source = new EventSource(url);
+    setState("connecting");
+
+    source.onopen = () => {
+      setState("open");
+      savedOnOpen.current?.();
+    };
+
+    source.onerror = () => {
+      setState("error");
+    };
+
+    const listeners = eventNames.split(",").filter(Boolean).map((name) => {
+      const listener = (event: MessageEvent<string>) => {
+        try {
+          savedHandlers.current[name]?.(JSON.parse(event.data));
+        } catch (error) {
+          console.warn(`Ignoring malformed ${name} event`, error);
+        }
+      };
+      source.addEventListener(name, listener);
+      return [name, listener] as const;
+    });
+
+    return () => {
+      listeners.forEach(([name, listener]) => source.removeEventListener(name, listener));
+      source.close();
+    };
+  }, [enabled, url, eventNames]);
+
+  return state;
+}
@@ -69,6 +69,8 @@ export interface SubmissionStatus {
   verdict?: string;
   score?: number;
   time?: number;
+  cpuTime?: number;
+  memoryKb?: number;
 }
 
 export interface ContestDetails {
@@ -113,3 +115,26 @@ export async function submitSolution(
 export async function getSubmissionStatus(submissionId: string): Promise<SubmissionStatus> {
   return fetchJson<SubmissionStatus>(`/api/submissions/${encodeURIComponent(submissionId)}`);
 }
+
+export function submissionEventsUrl(submissionId: string): string {
+  return `${API_BASE_URL}/api/submissions/${encodeURIComponent(submissionId)}/events`;
+}
+
+export function leaderboardEventsUrl(contestId: string): string {
+  return `${API_BASE_URL}/api/contests/${encodeURIComponent(contestId)}/leaderboard/events`;
+}
+
+export function mergeLeaderboardEntry(entries: LeaderboardEntry[], update: LeaderboardEntry): LeaderboardEntry[] {
+  const merged = entries.filter((entry) => entry.username !== update.username);
+  merged.push(update);
+  merged.sort((left, right) => {
+    if (right.score !== left.score) {
+      return right.score - left.score;
+    }
+    if (left.time !== right.time) {
+      return left.time - right.time;
+    }
+    return left.username < right.username ? -1 : left.username > right.username ? 1 : 0;
+  });
+  return merged.map((entry, index) => ({ ...entry, rank: index + 1 }));
+}